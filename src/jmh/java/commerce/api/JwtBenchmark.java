@@ -0,0 +1,72 @@
+package commerce.api;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "1892b0a7-0cea-4b5f-ad7c-a2ca4a94fd22";
+
+    private AccessTokenIssuer issuer;
+    private JwtDecoder nimbusDecoder;
+    private JwtDecoder cachingDecoder;
+    private UUID subject;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        var key = new SecretKeySpec(SECRET.getBytes(), "HmacSHA256");
+        issuer = new AccessTokenIssuer(SECRET);
+        nimbusDecoder = NimbusJwtDecoder.withSecretKey(key).build();
+        cachingDecoder = new CachingJwtDecoder(
+            NimbusJwtDecoder.withSecretKey(key).build(),
+            10_000,
+            Duration.ofMinutes(5)
+        );
+        subject = UUID.randomUUID();
+        token = issuer.issue(subject, "ROLE_SHOPPER");
+    }
+
+    @Benchmark
+    public String composeWithJjwt() {
+        return Jwts
+            .builder()
+            .signWith(new SecretKeySpec(SECRET.getBytes(), "HmacSHA256"))
+            .setSubject(subject.toString())
+            .claim("scp", "ROLE_SHOPPER")
+            .compact();
+    }
+
+    @Benchmark
+    public String composeWithAccessTokenIssuer() {
+        return issuer.issue(subject, "ROLE_SHOPPER");
+    }
+
+    @Benchmark
+    public Jwt decodeWithNimbus() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeWithCache() {
+        return cachingDecoder.decode(token);
+    }
+}
@@ -0,0 +1,51 @@
+package commerce.querymodel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContinuationTokenCodecBenchmark {
+
+    private ContinuationTokenCodec codec;
+    private PageCursor cursor;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        codec = new ContinuationTokenCodec("1892b0a7-0cea-4b5f-ad7c-a2ca4a94fd22");
+        cursor = new PageCursor(1_234_567L);
+        token = codec.encode(cursor);
+        char last = token.charAt(token.length() - 1);
+        tamperedToken = token.substring(0, token.length() - 1)
+            + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(cursor);
+    }
+
+    @Benchmark
+    public PageCursor decode() {
+        return codec.decode(token);
+    }
+
+    @Benchmark
+    public Object decodeTampered() {
+        try {
+            return codec.decode(tamperedToken);
+        } catch (InvalidContinuationTokenException exception) {
+            return exception;
+        }
+    }
+}
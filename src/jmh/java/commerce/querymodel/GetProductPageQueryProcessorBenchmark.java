@@ -0,0 +1,145 @@
+package commerce.querymodel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import commerce.Product;
+import commerce.ProductRepository;
+import commerce.api.CommerceApiApp;
+import commerce.query.GetProductPage;
+import commerce.query.ProductSortOrder;
+import commerce.result.PageCarrier;
+import commerce.view.ProductView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GetProductPageQueryProcessorBenchmark {
+
+    @Param({ "10000" })
+    private int productCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ContinuationTokenCodec tokenCodec;
+    private ProductFeedMetrics metrics;
+    private String deepContinuationToken;
+    private String deepPriceContinuationToken;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(
+            CommerceApiApp.class,
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=warn"
+        );
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        tokenCodec = context.getBean(ContinuationTokenCodec.class);
+        metrics = context.getBean(ProductFeedMetrics.class);
+
+        List<Product> products = seedProducts(context.getBean(ProductRepository.class));
+        Long deepSequence = products.get(products.size() / 10).getSequence();
+        deepContinuationToken = tokenCodec.encode(new PageCursor(deepSequence));
+
+        Product deepByPrice = products.get(products.size() * 9 / 10);
+        deepPriceContinuationToken = tokenCodec.encode(new PageCursor(
+            deepByPrice.getSequence(),
+            deepByPrice.getPriceAmount(),
+            ProductFilter.NONE,
+            ProductSortOrder.PRICE_ASC
+        ));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageCarrier<ProductView> firstPage() {
+        return process(new GetProductPage(null, null, null, null, null, null));
+    }
+
+    @Benchmark
+    public PageCarrier<ProductView> deepPage() {
+        return process(new GetProductPage(deepContinuationToken, null, null, null, null, null));
+    }
+
+    @Benchmark
+    public PageCarrier<ProductView> firstPageByPrice() {
+        return process(new GetProductPage(
+            null,
+            null,
+            null,
+            null,
+            null,
+            ProductSortOrder.PRICE_ASC
+        ));
+    }
+
+    @Benchmark
+    public PageCarrier<ProductView> deepPageByPrice() {
+        return process(new GetProductPage(
+            deepPriceContinuationToken,
+            null,
+            null,
+            null,
+            null,
+            null
+        ));
+    }
+
+    private PageCarrier<ProductView> process(GetProductPage query) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            var processor = new GetProductPageQueryProcessor(
+                entityManager,
+                tokenCodec,
+                10,
+                100,
+                metrics
+            );
+            return processor.process(query);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private List<Product> seedProducts(ProductRepository repository) {
+        UUID sellerId = UUID.randomUUID();
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            var product = new Product();
+            product.setId(UUID.randomUUID());
+            product.setSellerId(sellerId);
+            product.setSellerUsername("seller");
+            product.setName("name " + i);
+            product.setDescription("description " + UUID.randomUUID());
+            product.setPriceAmount(new BigDecimal(10000 + i));
+            product.setStockQuantity(i % 100);
+            product.setRegisteredTimeUtc(LocalDateTime.now(ZoneOffset.UTC));
+            products.add(product);
+        }
+
+        return repository.saveAll(products);
+    }
+}
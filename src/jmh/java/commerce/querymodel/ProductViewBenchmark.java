@@ -0,0 +1,69 @@
+package commerce.querymodel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commerce.result.PageCarrier;
+import commerce.view.ProductView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductViewBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private ProductFeedRow[] rows;
+    private PageCarrier<ProductView> page;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        UUID sellerId = UUID.randomUUID();
+        rows = IntStream
+            .range(0, pageSize)
+            .mapToObj(i -> new ProductFeedRow(
+                (long) i,
+                UUID.randomUUID(),
+                sellerId,
+                "seller",
+                "name " + i,
+                "description " + UUID.randomUUID(),
+                new BigDecimal(10000 + i),
+                i,
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i)
+            ))
+            .toArray(ProductFeedRow[]::new);
+        page = new PageCarrier<>(mapRows(), "AQAAAAAAAAAACgAAAAAAAAAAAAAAAAAAAAA");
+        mapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public ProductView[] mapRows() {
+        ProductView[] views = new ProductView[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            views[i] = rows[i].toView();
+        }
+
+        return views;
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,43 @@
+package commerce;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "orders", indexes = {
+    @Index(columnList = "shopperId, sequence")
+})
+@Getter
+@Setter
+public class Order {
+
+    @Id
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "order_sequence"
+    )
+    @SequenceGenerator(name = "order_sequence", allocationSize = 50)
+    private Long sequence;
+
+    @Column(unique = true)
+    private UUID id;
+
+    private UUID shopperId;
+
+    private UUID productId;
+
+    private int quantity;
+
+    private LocalDateTime placedTimeUtc;
+}
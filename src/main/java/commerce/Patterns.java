@@ -2,6 +2,80 @@ package commerce;
 
 public class Patterns {
 
-    public static final String EMAIL_REGEX = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,6}$";
-    public static final String USERNAME_REGEX = "^[A-Za-z0-9_-]{3,}$";
+    // ^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,6}$
+    public static boolean matchesEmail(CharSequence value) {
+        int length = value.length();
+
+        int at = 0;
+        while (at < length && value.charAt(at) != '@') {
+            if (isEmailLocalPartChar(value.charAt(at)) == false) {
+                return false;
+            }
+
+            at++;
+        }
+
+        if (at == 0 || at == length) {
+            return false;
+        }
+
+        int lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (isAsciiLetterOrDigit(c) == false && c != '-') {
+                return false;
+            }
+        }
+
+        int topLevelDomainLength = length - lastDot - 1;
+        if (lastDot <= at + 1
+            || topLevelDomainLength < 2
+            || topLevelDomainLength > 6) {
+            return false;
+        }
+
+        for (int i = lastDot + 1; i < length; i++) {
+            if (isAsciiLetter(value.charAt(i)) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // ^[A-Za-z0-9_-]{3,}$
+    public static boolean matchesUsername(CharSequence value) {
+        int length = value.length();
+        if (length < 3) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (isAsciiLetterOrDigit(c) == false && c != '_' && c != '-') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isEmailLocalPartChar(char c) {
+        return isAsciiLetterOrDigit(c)
+            || c == '.'
+            || c == '_'
+            || c == '%'
+            || c == '+'
+            || c == '-';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
 }
@@ -9,16 +9,77 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@NamedQuery(
+    name = "Product.feedFirstPage",
+    query = "SELECT new commerce.querymodel.ProductFeedRow(" +
+        "p.sequence, p.id, p.sellerId, p.sellerUsername, p.name, " +
+        "p.description, p.priceAmount, p.stockQuantity, " +
+        "p.registeredTimeUtc) " +
+        "FROM Product p " +
+        "ORDER BY p.sequence DESC"
+)
+@NamedQuery(
+    name = "Product.feedNextPage",
+    query = "SELECT new commerce.querymodel.ProductFeedRow(" +
+        "p.sequence, p.id, p.sellerId, p.sellerUsername, p.name, " +
+        "p.description, p.priceAmount, p.stockQuantity, " +
+        "p.registeredTimeUtc) " +
+        "FROM Product p " +
+        "WHERE p.sequence <= :next " +
+        "ORDER BY p.sequence DESC"
+)
+@NamedQuery(
+    name = "Product.feedBySequences",
+    query = "SELECT new commerce.querymodel.ProductFeedRow(" +
+        "p.sequence, p.id, p.sellerId, p.sellerUsername, p.name, " +
+        "p.description, p.priceAmount, p.stockQuantity, " +
+        "p.registeredTimeUtc) " +
+        "FROM Product p " +
+        "WHERE p.sequence IN :sequences"
+)
+@NamedQuery(
+    name = "Product.searchDocuments",
+    query = "SELECT new commerce.querymodel.ProductSearchDocument(" +
+        "p.sequence, p.name, p.description) " +
+        "FROM Product p " +
+        "ORDER BY p.sequence"
+)
+@NamedQuery(
+    name = "Product.sellerFirstPage",
+    query = "SELECT p FROM Product p " +
+        "WHERE p.sellerId = :sellerId " +
+        "ORDER BY p.sequence DESC"
+)
+@NamedQuery(
+    name = "Product.sellerNextPage",
+    query = "SELECT p FROM Product p " +
+        "WHERE p.sellerId = :sellerId AND p.sequence <= :next " +
+        "ORDER BY p.sequence DESC"
+)
+@Table(indexes = {
+    @Index(columnList = "sellerId, sequence"),
+    @Index(columnList = "priceAmount, sequence"),
+    @Index(columnList = "registeredTimeUtc, sequence"),
+    @Index(columnList = "stockQuantity")
+})
 @Getter
 @Setter
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(
+        strategy = GenerationType.SEQUENCE,
+        generator = "product_sequence"
+    )
+    @SequenceGenerator(name = "product_sequence", allocationSize = 50)
     private Long sequence;
 
     @Column(unique = true)
@@ -26,10 +87,13 @@ public class Product {
 
     private UUID sellerId;
 
+    private String sellerUsername;
+
     private String name;
 
     private String description;
 
+    @Column(nullable = false)
     private BigDecimal priceAmount;
 
     private int stockQuantity;
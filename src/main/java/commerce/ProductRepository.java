@@ -1,16 +1,27 @@
 package commerce;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> find(UUID id);
 
-    List<Product> findBySellerIdOrderByRegisteredTimeUtcDesc(UUID sellerId);
+    @Query("SELECT COUNT(p) > 0 FROM Product p WHERE p.id = :id")
+    boolean contains(UUID id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE Product p " +
+        "SET p.stockQuantity = p.stockQuantity - :quantity " +
+        "WHERE p.id = :id AND p.stockQuantity >= :quantity"
+    )
+    int decreaseStock(UUID id, int quantity);
 }
@@ -2,6 +2,7 @@ package commerce;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,4 +13,14 @@ public interface ShopperRepository extends JpaRepository<Shopper, Long> {
     Optional<Shopper> find(UUID id);
 
     Optional<Shopper> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByUsername(String username);
+
+    @Query("SELECT s.email FROM Shopper s")
+    Stream<String> streamEmails();
+
+    @Query("SELECT s.username FROM Shopper s")
+    Stream<String> streamUsernames();
 }
@@ -0,0 +1,75 @@
+package commerce.api;
+
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+public class AccessTokenIssuer {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 43;
+
+    private static final Base64.Encoder ENCODER =
+        Base64.getUrlEncoder().withoutPadding();
+
+    private static final byte[] HEADER =
+        ENCODER.encode("{\"alg\":\"HS256\"}".getBytes(US_ASCII));
+
+    private final Mac prototype;
+
+    public AccessTokenIssuer(String secret) {
+        var key = new SecretKeySpec(secret.getBytes(), ALGORITHM);
+        this.prototype = createMac(key);
+    }
+
+    public String issue(UUID subject, String scope) {
+        String claims = "{\"sub\":\"" + subject + "\",\"scp\":\"" + scope + "\"}";
+        byte[] payload = ENCODER.encode(claims.getBytes(US_ASCII));
+
+        int signingInputLength = HEADER.length + 1 + payload.length;
+        byte[] token = new byte[signingInputLength + 1 + SIGNATURE_LENGTH];
+        System.arraycopy(HEADER, 0, token, 0, HEADER.length);
+        token[HEADER.length] = '.';
+        System.arraycopy(payload, 0, token, HEADER.length + 1, payload.length);
+
+        Mac instance = newMac();
+        instance.update(token, 0, signingInputLength);
+        byte[] signature = ENCODER.encode(instance.doFinal());
+
+        token[signingInputLength] = '.';
+        System.arraycopy(
+            signature,
+            0,
+            token,
+            signingInputLength + 1,
+            SIGNATURE_LENGTH
+        );
+
+        return new String(token, US_ASCII);
+    }
+
+    // A clone of the keyed prototype skips the provider lookup and key setup
+    // that a per-thread instance would repeat for every virtual thread.
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
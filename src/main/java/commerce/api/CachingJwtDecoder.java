@@ -0,0 +1,110 @@
+package commerce.api;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<ByteBuffer, Jwt> cache;
+    private final MessageDigest digest = createDigest();
+
+    public CachingJwtDecoder(
+        JwtDecoder delegate,
+        long maximumSize,
+        Duration timeToLive
+    ) {
+        this.delegate = delegate;
+        this.cache = Caffeine
+            .newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry(timeToLive))
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+
+        ByteBuffer key = ByteBuffer.wrap(newDigest().digest(token.getBytes(UTF_8)));
+        Jwt jwt = cache.getIfPresent(key);
+        if (jwt != null && isExpired(jwt) == false) {
+            return jwt;
+        }
+
+        jwt = delegate.decode(token);
+        cache.put(key, jwt);
+        return jwt;
+    }
+
+    private static boolean isExpired(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        return expiresAt != null && expiresAt.isAfter(Instant.now()) == false;
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private record TokenExpiry(Duration timeToLive)
+        implements Expiry<ByteBuffer, Jwt> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            Duration lifetime = expiresAt == null
+                ? timeToLive
+                : Duration.between(Instant.now(), expiresAt);
+            return Math.max(0, Math.min(
+                lifetime.toNanos(),
+                timeToLive.toNanos()
+            ));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            ByteBuffer key,
+            Jwt jwt,
+            long currentTime,
+            long currentDuration
+        ) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            ByteBuffer key,
+            Jwt jwt,
+            long currentTime,
+            long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
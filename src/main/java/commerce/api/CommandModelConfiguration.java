@@ -0,0 +1,96 @@
+package commerce.api;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import commerce.OrderRepository;
+import commerce.ProductRepository;
+import commerce.SellerRepository;
+import commerce.ShopperRepository;
+import commerce.commandmodel.OrderGroupCommitter;
+import commerce.commandmodel.ReserveStockCommandExecutor;
+import commerce.commandmodel.TakenIdentityFilter;
+import commerce.querymodel.ProductPageCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class CommandModelConfiguration {
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final TransactionTemplate transactionTemplate;
+
+    public CommandModelConfiguration(
+        @Value("${sign-up.identity-filter.expected-insertions}") long expectedInsertions,
+        @Value("${sign-up.identity-filter.false-positive-probability}") double falsePositiveProbability,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Bean
+    TakenIdentityFilter sellerIdentityFilter(SellerRepository repository) {
+        return warmUp(repository::streamEmails, repository::streamUsernames);
+    }
+
+    @Bean
+    TakenIdentityFilter shopperIdentityFilter(ShopperRepository repository) {
+        return warmUp(repository::streamEmails, repository::streamUsernames);
+    }
+
+    private TakenIdentityFilter warmUp(
+        Supplier<Stream<String>> emails,
+        Supplier<Stream<String>> usernames
+    ) {
+        var filter = new TakenIdentityFilter(
+            expectedInsertions,
+            falsePositiveProbability
+        );
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> stream = emails.get()) {
+                stream.forEach(filter::addEmail);
+            }
+
+            try (Stream<String> stream = usernames.get()) {
+                stream.forEach(filter::addUsername);
+            }
+        });
+        return filter;
+    }
+
+    @Bean
+    SignUpMetrics signUpMetrics(MeterRegistry meterRegistry) {
+        return SignUpMetrics.register(meterRegistry);
+    }
+
+    @Bean
+    OrderGroupCommitter orderGroupCommitter(
+        @Value("${shopper.orders.group-commit.maximum-batch-size}") int maximumBatchSize,
+        @Value("${shopper.orders.group-commit.queue-capacity}") int queueCapacity,
+        PlatformTransactionManager transactionManager,
+        ProductRepository productRepository,
+        OrderRepository orderRepository,
+        ProductPageCache pageCache
+    ) {
+        var batchTransaction = new TransactionTemplate(transactionManager);
+        return new OrderGroupCommitter(
+            maximumBatchSize,
+            queueCapacity,
+            task -> batchTransaction.executeWithoutResult(status -> task.run()),
+            new ReserveStockCommandExecutor(
+                productRepository::decreaseStock,
+                productRepository::contains
+            ),
+            orderRepository::saveAll,
+            placed -> pageCache.invalidate()
+        );
+    }
+}
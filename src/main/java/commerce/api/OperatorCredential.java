@@ -0,0 +1,40 @@
+package commerce.api;
+
+import java.security.MessageDigest;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class OperatorCredential {
+
+    private final byte[] clientId;
+    private final byte[] clientSecret;
+    private final UUID subject;
+
+    public OperatorCredential(String clientId, String clientSecret) {
+        this.clientId = clientId.getBytes(UTF_8);
+        this.clientSecret = clientSecret.getBytes(UTF_8);
+        this.subject = UUID.nameUUIDFromBytes(this.clientId);
+    }
+
+    public UUID subject() {
+        return subject;
+    }
+
+    // A blank secret leaves operator tokens disabled.
+    public boolean matches(String clientId, String clientSecret) {
+        if (this.clientSecret.length == 0 || clientId == null || clientSecret == null) {
+            return false;
+        }
+
+        boolean idMatches = MessageDigest.isEqual(
+            this.clientId,
+            clientId.getBytes(UTF_8)
+        );
+        boolean secretMatches = MessageDigest.isEqual(
+            this.clientSecret,
+            clientSecret.getBytes(UTF_8)
+        );
+        return idMatches & secretMatches;
+    }
+}
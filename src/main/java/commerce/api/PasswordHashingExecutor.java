@@ -0,0 +1,70 @@
+package commerce.api;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+public class PasswordHashingExecutor {
+
+    private static final String METRIC_PREFIX = "password.hashing";
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(
+        int threads,
+        int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        Counter rejections = Counter
+            .builder(METRIC_PREFIX + ".rejected")
+            .register(meterRegistry);
+
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory(),
+            (task, pool) -> {
+                rejections.increment();
+                new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, pool);
+            }
+        );
+
+        new ExecutorServiceMetrics(executor, METRIC_PREFIX, Tags.empty())
+            .bindTo(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    public int threads() {
+        return executor.getCorePoolSize();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public int remainingQueueCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory threadFactory() {
+        return Thread.ofPlatform().name("password-hashing-", 0).factory();
+    }
+}
@@ -0,0 +1,51 @@
+package commerce.api;
+
+import commerce.querymodel.ContinuationTokenCodec;
+import commerce.querymodel.ProductFeedMetrics;
+import commerce.querymodel.ProductSearchIndex;
+import commerce.querymodel.ProductSearchIndexLoader;
+import commerce.querymodel.ProductPageCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class QueryModelConfiguration {
+
+    @Bean
+    ProductPageCache productPageCache(
+        @Value("${feed.page-cache.maximum-size}") long maximumSize
+    ) {
+        return new ProductPageCache(maximumSize);
+    }
+
+    @Bean
+    ContinuationTokenCodec continuationTokenCodec(
+        @Value("${security.jwt.secret}") String secret
+    ) {
+        return new ContinuationTokenCodec(secret);
+    }
+
+    @Bean
+    ProductFeedMetrics productFeedMetrics(MeterRegistry meterRegistry) {
+        return ProductFeedMetrics.register(meterRegistry);
+    }
+
+    @Bean
+    ProductSearchIndex productSearchIndex(
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Value("${feed.search.load-fetch-size}") int fetchSize
+    ) {
+        var index = new ProductSearchIndex();
+        var loader = new ProductSearchIndexLoader(entityManager, fetchSize);
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> loader.load(index));
+        return index;
+    }
+}
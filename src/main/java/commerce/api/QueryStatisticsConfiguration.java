@@ -0,0 +1,29 @@
+package commerce.api;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(
+    name = "spring.jpa.properties.hibernate.generate_statistics",
+    havingValue = "true"
+)
+public class QueryStatisticsConfiguration {
+
+    @Bean
+    QueryStatisticsEndpoint queryStatisticsEndpoint(
+        EntityManagerFactory entityManagerFactory,
+        @Value("${query-statistics.unbounded-rows-threshold}") long unboundedRowsThreshold,
+        @Value("${query-statistics.n-plus-one-fetch-threshold}") long nPlusOneFetchThreshold
+    ) {
+        return new QueryStatisticsEndpoint(
+            entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+            unboundedRowsThreshold,
+            nPlusOneFetchThreshold
+        );
+    }
+}
@@ -0,0 +1,159 @@
+package commerce.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+@Endpoint(id = "querystatistics")
+public class QueryStatisticsEndpoint {
+
+    private final Statistics statistics;
+    private final long unboundedRowsThreshold;
+    private final long nPlusOneFetchThreshold;
+
+    public QueryStatisticsEndpoint(
+        Statistics statistics,
+        long unboundedRowsThreshold,
+        long nPlusOneFetchThreshold
+    ) {
+        this.statistics = statistics;
+        this.unboundedRowsThreshold = unboundedRowsThreshold;
+        this.nPlusOneFetchThreshold = nPlusOneFetchThreshold;
+    }
+
+    @ReadOperation
+    public Report report() {
+        List<String> warnings = new ArrayList<>();
+
+        QueryReport[] queries = Arrays
+            .stream(statistics.getQueries())
+            .map(this::reportQuery)
+            .sorted(Comparator.comparingLong(QueryReport::totalTimeMillis).reversed())
+            .toArray(QueryReport[]::new);
+
+        for (QueryReport query : queries) {
+            if (query.unbounded()) {
+                warnings.add(String.format(
+                    "Possibly unbounded: %.1f rows per execution for %s",
+                    query.averageRows(),
+                    query.query()
+                ));
+            }
+        }
+
+        long queryExecutions = statistics.getQueryExecutionCount();
+        for (String entityName : statistics.getEntityNames()) {
+            EntityStatistics entity = statistics.getEntityStatistics(entityName);
+            if (isNPlusOne(entity.getFetchCount(), queryExecutions)) {
+                warnings.add(String.format(
+                    "Possible N+1: %s fetched %d times by secondary selects",
+                    entityName,
+                    entity.getFetchCount()
+                ));
+            }
+        }
+
+        for (String role : statistics.getCollectionRoleNames()) {
+            CollectionStatistics collection = statistics.getCollectionStatistics(role);
+            if (isNPlusOne(collection.getFetchCount(), queryExecutions)) {
+                warnings.add(String.format(
+                    "Possible N+1: %s fetched %d times by secondary selects",
+                    role,
+                    collection.getFetchCount()
+                ));
+            }
+        }
+
+        return new Report(
+            queryExecutions,
+            statistics.getQueryExecutionMaxTime(),
+            statistics.getQueryExecutionMaxTimeQueryString(),
+            statistics.getQueryPlanCacheHitCount(),
+            statistics.getQueryPlanCacheMissCount(),
+            hitRatio(
+                statistics.getQueryPlanCacheHitCount(),
+                statistics.getQueryPlanCacheMissCount()
+            ),
+            statistics.getPrepareStatementCount(),
+            statistics.getEntityLoadCount(),
+            statistics.getEntityFetchCount(),
+            statistics.getCollectionFetchCount(),
+            queries,
+            warnings.toArray(String[]::new)
+        );
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+    }
+
+    private QueryReport reportQuery(String query) {
+        QueryStatistics stats = statistics.getQueryStatistics(query);
+        long executions = stats.getExecutionCount();
+        long rows = stats.getExecutionRowCount();
+        double averageRows = executions == 0 ? 0 : (double) rows / executions;
+        return new QueryReport(
+            query,
+            executions,
+            stats.getExecutionAvgTime(),
+            stats.getExecutionMaxTime(),
+            stats.getExecutionTotalTime(),
+            rows,
+            averageRows,
+            stats.getPlanCacheHitCount(),
+            stats.getPlanCacheMissCount(),
+            hitRatio(stats.getPlanCacheHitCount(), stats.getPlanCacheMissCount()),
+            averageRows > unboundedRowsThreshold
+        );
+    }
+
+    private boolean isNPlusOne(long fetchCount, long queryExecutions) {
+        return fetchCount >= nPlusOneFetchThreshold && fetchCount > queryExecutions;
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public record Report(
+        long queryExecutionCount,
+        long queryExecutionMaxTimeMillis,
+        String slowestQuery,
+        long planCacheHitCount,
+        long planCacheMissCount,
+        double planCacheHitRatio,
+        long prepareStatementCount,
+        long entityLoadCount,
+        long entityFetchCount,
+        long collectionFetchCount,
+        QueryReport[] queries,
+        String[] warnings
+    ) {
+    }
+
+    public record QueryReport(
+        String query,
+        long executionCount,
+        long averageTimeMillis,
+        long maxTimeMillis,
+        long totalTimeMillis,
+        long rows,
+        double averageRows,
+        long planCacheHitCount,
+        long planCacheMissCount,
+        double planCacheHitRatio,
+        boolean unbounded
+    ) {
+    }
+}
@@ -1,13 +1,18 @@
 package commerce.api;
 
+import java.time.Duration;
+
 import javax.crypto.spec.SecretKeySpec;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
@@ -20,14 +25,58 @@ import org.springframework.security.web.DefaultSecurityFilterChain;
 public class SecurityConfiguration {
 
     @Bean
-    Pbkdf2PasswordEncoder passwordEncoder() {
-        return Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    SecurityMetrics securityMetrics(MeterRegistry meterRegistry) {
+        return SecurityMetrics.register(meterRegistry);
+    }
+
+    @Bean
+    PasswordEncoder passwordEncoder(SecurityMetrics metrics) {
+        return new TimedPasswordEncoder(
+            Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+            metrics.passwordHashTimer(),
+            metrics.passwordVerifyTimer()
+        );
+    }
+
+    @Bean
+    PasswordHashingExecutor passwordHashingExecutor(
+        @Value("${security.password-hashing.threads}") int threads,
+        @Value("${security.password-hashing.queue-capacity}") int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        return new PasswordHashingExecutor(threads, queueCapacity, meterRegistry);
+    }
+
+    @Bean
+    AccessTokenIssuer accessTokenIssuer(
+        @Value("${security.jwt.secret}") String secret
+    ) {
+        return new AccessTokenIssuer(secret);
+    }
+
+    @Bean
+    OperatorCredential operatorCredential(
+        @Value("${security.operator.client-id}") String clientId,
+        @Value("${security.operator.client-secret}") String clientSecret
+    ) {
+        return new OperatorCredential(clientId, clientSecret);
     }
 
     @Bean
-    JwtDecoder jwtDecoder(@Value("${security.jwt.secret}") String secret) {
+    JwtDecoder jwtDecoder(
+        @Value("${security.jwt.secret}") String secret,
+        @Value("${security.jwt.decoder-cache.maximum-size}") long maximumSize,
+        @Value("${security.jwt.decoder-cache.time-to-live}") Duration timeToLive,
+        SecurityMetrics metrics
+    ) {
         var secretKey = new SecretKeySpec(secret.getBytes(), "HmacSHA256");
-        return NimbusJwtDecoder.withSecretKey(secretKey).build();
+        var decoder = new CachingJwtDecoder(
+            NimbusJwtDecoder.withSecretKey(secretKey).build(),
+            maximumSize,
+            timeToLive
+        );
+        Timer timer = metrics.tokenDecodeTimer();
+        return token -> timer.record(() -> decoder.decode(token));
     }
 
     @Bean
@@ -61,6 +110,9 @@ public class SecurityConfiguration {
                 .requestMatchers("/shopper/signUp").permitAll()
                 .requestMatchers("/shopper/issueToken").permitAll()
                 .requestMatchers("/shopper/**").hasRole("SHOPPER")
+                .requestMatchers("/operator/issueToken").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("OPERATOR")
                 .anyRequest().authenticated()
             )
             .build();
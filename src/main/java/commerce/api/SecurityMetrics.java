@@ -0,0 +1,33 @@
+package commerce.api;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public record SecurityMetrics(
+    Timer passwordHashTimer,
+    Timer passwordVerifyTimer,
+    Timer tokenIssueTimer,
+    Timer tokenDecodeTimer
+) {
+
+    public static SecurityMetrics register(MeterRegistry meterRegistry) {
+        return new SecurityMetrics(
+            Timer
+                .builder("password.hash")
+                .description("Time spent hashing a password")
+                .register(meterRegistry),
+            Timer
+                .builder("password.verify")
+                .description("Time spent verifying a password against its hash")
+                .register(meterRegistry),
+            Timer
+                .builder("jwt.issue")
+                .description("Time spent composing and signing an access token")
+                .register(meterRegistry),
+            Timer
+                .builder("jwt.decode")
+                .description("Time spent decoding an access token")
+                .register(meterRegistry)
+        );
+    }
+}
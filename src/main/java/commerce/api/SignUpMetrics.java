@@ -0,0 +1,38 @@
+package commerce.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public record SignUpMetrics(
+    Counter sellerEmailRejections,
+    Counter sellerUsernameRejections,
+    Counter sellerConstraintRejections,
+    Counter shopperEmailRejections,
+    Counter shopperUsernameRejections,
+    Counter shopperConstraintRejections
+) {
+
+    public static SignUpMetrics register(MeterRegistry meterRegistry) {
+        return new SignUpMetrics(
+            duplicateRejections(meterRegistry, "seller", "uniqueEmail"),
+            duplicateRejections(meterRegistry, "seller", "uniqueUsername"),
+            duplicateRejections(meterRegistry, "seller", "uniqueConstraint"),
+            duplicateRejections(meterRegistry, "shopper", "uniqueEmail"),
+            duplicateRejections(meterRegistry, "shopper", "uniqueUsername"),
+            duplicateRejections(meterRegistry, "shopper", "uniqueConstraint")
+        );
+    }
+
+    private static Counter duplicateRejections(
+        MeterRegistry meterRegistry,
+        String role,
+        String invariant
+    ) {
+        return Counter
+            .builder("signup.duplicate.rejected")
+            .description("Sign-ups rejected because the identity is taken")
+            .tag("role", role)
+            .tag("invariant", invariant)
+            .register(meterRegistry);
+    }
+}
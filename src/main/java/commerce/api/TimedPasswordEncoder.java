@@ -0,0 +1,28 @@
+package commerce.api;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public record TimedPasswordEncoder(
+    PasswordEncoder delegate,
+    Timer encodeTimer,
+    Timer matchesTimer
+) implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer.record(
+            () -> delegate.matches(rawPassword, encodedPassword)
+        );
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -10,6 +10,6 @@ public class DataIntegrityViolationExceptionHandler {
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<?> handle() {
-        return ResponseEntity.badRequest().build();
+        return ErrorResponses.dataIntegrityViolation();
     }
 }
@@ -0,0 +1,36 @@
+package commerce.api.controller;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import commerce.result.ErrorCarrier;
+import org.springframework.http.ResponseEntity;
+
+final class ErrorResponses {
+
+    private static final ResponseEntity<ErrorCarrier> DATA_INTEGRITY_VIOLATION =
+        badRequest(new ErrorCarrier("DataIntegrityViolation", null));
+
+    private static final Map<String, ResponseEntity<ErrorCarrier>>
+        INVARIANT_VIOLATIONS = new ConcurrentHashMap<>();
+
+    private ErrorResponses() {
+    }
+
+    public static ResponseEntity<ErrorCarrier> invariantViolation(
+        String invariant
+    ) {
+        return INVARIANT_VIOLATIONS.computeIfAbsent(
+            invariant,
+            key -> badRequest(new ErrorCarrier("InvariantViolation", key))
+        );
+    }
+
+    public static ResponseEntity<ErrorCarrier> dataIntegrityViolation() {
+        return DATA_INTEGRITY_VIOLATION;
+    }
+
+    private static ResponseEntity<ErrorCarrier> badRequest(ErrorCarrier body) {
+        return ResponseEntity.badRequest().body(body);
+    }
+}
@@ -0,0 +1,27 @@
+package commerce.api.controller;
+
+import commerce.querymodel.InvalidContinuationTokenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class InvalidContinuationTokenExceptionHandler {
+
+    private final Counter rejections;
+
+    public InvalidContinuationTokenExceptionHandler(MeterRegistry meterRegistry) {
+        this.rejections = Counter
+            .builder("continuation.token.rejected")
+            .description("Continuation tokens that failed to decode")
+            .register(meterRegistry);
+    }
+
+    @ExceptionHandler(InvalidContinuationTokenException.class)
+    public ResponseEntity<?> handle() {
+        rejections.increment();
+        return ErrorResponses.invariantViolation("continuationToken");
+    }
+}
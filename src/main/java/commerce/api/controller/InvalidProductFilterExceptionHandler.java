@@ -0,0 +1,15 @@
+package commerce.api.controller;
+
+import commerce.querymodel.InvalidProductFilterException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class InvalidProductFilterExceptionHandler {
+
+    @ExceptionHandler(InvalidProductFilterException.class)
+    public ResponseEntity<?> handle() {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 public class InvariantViolationExceptionHandler {
 
     @ExceptionHandler(InvariantViolationException.class)
-    public ResponseEntity<?> handle() {
-        return ResponseEntity.badRequest().build();
+    public ResponseEntity<?> handle(InvariantViolationException exception) {
+        return ErrorResponses.invariantViolation(exception.getInvariant());
     }
 }
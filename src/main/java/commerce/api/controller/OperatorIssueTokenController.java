@@ -0,0 +1,34 @@
+package commerce.api.controller;
+
+import commerce.api.AccessTokenIssuer;
+import commerce.api.OperatorCredential;
+import commerce.api.SecurityMetrics;
+import commerce.query.IssueOperatorToken;
+import commerce.result.AccessTokenCarrier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public record OperatorIssueTokenController(
+    OperatorCredential credential,
+    AccessTokenIssuer tokenIssuer,
+    SecurityMetrics securityMetrics
+) {
+
+    @PostMapping("/operator/issueToken")
+    ResponseEntity<?> issueToken(@RequestBody IssueOperatorToken query) {
+        if (credential.matches(query.clientId(), query.clientSecret()) == false) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(new AccessTokenCarrier(composeToken()));
+    }
+
+    private String composeToken() {
+        return securityMetrics.tokenIssueTimer().record(
+            () -> tokenIssuer.issue(credential.subject(), "ROLE_OPERATOR")
+        );
+    }
+}
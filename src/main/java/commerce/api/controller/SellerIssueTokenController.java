@@ -1,13 +1,15 @@
 package commerce.api.controller;
 
-import javax.crypto.spec.SecretKeySpec;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import commerce.Seller;
 import commerce.SellerRepository;
+import commerce.api.AccessTokenIssuer;
+import commerce.api.PasswordHashingExecutor;
+import commerce.api.SecurityMetrics;
 import commerce.query.IssueSellerToken;
 import commerce.result.AccessTokenCarrier;
-import io.jsonwebtoken.Jwts;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,29 +20,43 @@ import org.springframework.web.bind.annotation.RestController;
 public record SellerIssueTokenController(
     SellerRepository repository,
     PasswordEncoder passwordEncoder,
-    @Value("${security.jwt.secret}") String jwtSecret
+    PasswordHashingExecutor hashingExecutor,
+    AccessTokenIssuer tokenIssuer,
+    SecurityMetrics securityMetrics
 ) {
 
     @PostMapping("/seller/issueToken")
-    ResponseEntity<?> issueToken(@RequestBody IssueSellerToken query) {
-        return repository
-            .findByEmail(query.email())
-            .filter(seller -> passwordEncoder.matches(
-                query.password(),
-                seller.getHashedPassword()
-            ))
-            .map(this::composeToken)
-            .map(AccessTokenCarrier::new)
-            .map(ResponseEntity::ok)
-            .orElseGet(() -> ResponseEntity.badRequest().build());
+    CompletableFuture<ResponseEntity<?>> issueToken(
+        @RequestBody IssueSellerToken query
+    ) {
+        // Only the CPU-bound password check takes a hashing slot; the
+        // repository lookup stays on the request thread.
+        Optional<Seller> seller = repository.findByEmail(query.email());
+        if (seller.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                ResponseEntity.badRequest().build()
+            );
+        }
+
+        return verifyPassword(query.password(), seller.get())
+            .thenApply(matches -> matches
+                ? ResponseEntity.ok(new AccessTokenCarrier(composeToken(seller.get())))
+                : ResponseEntity.badRequest().build());
+    }
+
+    private CompletableFuture<Boolean> verifyPassword(
+        String password,
+        Seller seller
+    ) {
+        return hashingExecutor.submit(() -> passwordEncoder.matches(
+            password,
+            seller.getHashedPassword()
+        ));
     }
 
     private String composeToken(Seller seller) {
-        return Jwts
-            .builder()
-            .signWith(new SecretKeySpec(jwtSecret.getBytes(), "HmacSHA256"))
-            .setSubject(seller.getId().toString())
-            .claim("scp", "ROLE_SELLER")
-            .compact();
+        return securityMetrics.tokenIssueTimer().record(
+            () -> tokenIssuer.issue(seller.getId(), "ROLE_SELLER")
+        );
     }
 }
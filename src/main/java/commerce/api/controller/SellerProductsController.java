@@ -2,43 +2,75 @@ package commerce.api.controller;
 
 import java.net.URI;
 import java.security.Principal;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.List;
 import java.util.UUID;
 
 import commerce.Product;
 import commerce.ProductRepository;
+import commerce.Seller;
+import commerce.SellerRepository;
 import commerce.command.RegisterProductCommand;
+import commerce.commandmodel.RegisterProductCommandExecutor;
+import commerce.commandmodel.RegisterProductsCommandExecutor;
+import commerce.query.GetSellerProductPage;
+import commerce.querymodel.ContinuationTokenCodec;
+import commerce.querymodel.GetSellerProductPageQueryProcessor;
+import commerce.querymodel.ProductPageCache;
+import commerce.querymodel.ProductSearchIndex;
 import commerce.result.ArrayCarrier;
+import commerce.result.PageCarrier;
 import commerce.view.SellerProductView;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
-public record SellerProductsController(ProductRepository repository) {
+public record SellerProductsController(
+    ProductRepository repository,
+    SellerRepository sellerRepository,
+    EntityManager entityManager,
+    ContinuationTokenCodec tokenCodec,
+    ProductPageCache pageCache,
+    ProductSearchIndex searchIndex,
+    @Value("${seller.products.maximum-batch-size}") int maximumBatchSize
+) {
 
     @PostMapping("/seller/products")
     ResponseEntity<?> registerProduct(
         @RequestBody RegisterProductCommand command,
         Principal user
     ) {
-        var product = new Product();
-        product.setId(UUID.randomUUID());
-        product.setSellerId(UUID.fromString(user.getName()));
-        product.setName(command.name());
-        product.setDescription(command.description());
-        product.setPriceAmount(command.priceAmount());
-        product.setStockQuantity(command.stockQuantity());
-        product.setRegisteredTimeUtc(LocalDateTime.now(ZoneOffset.UTC));
-        repository.save(product);
-        URI location = URI.create("/seller/products/" + product.getId());
+        UUID sellerId = UUID.fromString(user.getName());
+        Seller seller = sellerRepository.find(sellerId).orElseThrow();
+        var executor = new RegisterProductCommandExecutor(this::save);
+        UUID id = executor.execute(seller, command);
+        pageCache.invalidate();
+        URI location = URI.create("/seller/products/" + id);
         return ResponseEntity.created(location).build();
     }
 
+    @PostMapping("/seller/products/batch")
+    ArrayCarrier<UUID> registerProducts(
+        @RequestBody RegisterProductCommand[] commands,
+        Principal user
+    ) {
+        UUID sellerId = UUID.fromString(user.getName());
+        Seller seller = sellerRepository.find(sellerId).orElseThrow();
+        var executor = new RegisterProductsCommandExecutor(
+            maximumBatchSize,
+            this::saveAll
+        );
+        UUID[] ids = executor.execute(seller, commands);
+        pageCache.invalidate();
+        return new ArrayCarrier<>(ids);
+    }
+
     @GetMapping("/seller/products/{id}")
     ResponseEntity<?> findProduct(@PathVariable UUID id, Principal user) {
         UUID sellerId = UUID.fromString(user.getName());
@@ -51,14 +83,35 @@ public record SellerProductsController(ProductRepository repository) {
     }
 
     @GetMapping("/seller/products")
-    ResponseEntity<?> getProducts(Principal user) {
+    PageCarrier<SellerProductView> getProducts(
+        @RequestParam(required = false) String continuationToken,
+        Principal user
+    ) {
         UUID sellerId = UUID.fromString(user.getName());
-        SellerProductView[] items = repository
-            .findBySellerIdOrderByRegisteredTimeUtcDesc(sellerId)
-            .stream()
-            .map(SellerProductsController::toView)
-            .toArray(SellerProductView[]::new);
-        return ResponseEntity.ok(new ArrayCarrier<>(items));
+        var query = new GetSellerProductPage(sellerId, continuationToken);
+        var processor = new GetSellerProductPageQueryProcessor(
+            entityManager,
+            tokenCodec
+        );
+        return processor.process(query);
+    }
+
+    private void save(Product product) {
+        repository.save(product);
+        index(product);
+    }
+
+    private void saveAll(List<Product> products) {
+        repository.saveAll(products);
+        products.forEach(this::index);
+    }
+
+    private void index(Product product) {
+        searchIndex.add(
+            product.getSequence(),
+            product.getName(),
+            product.getDescription()
+        );
     }
 
     private static SellerProductView toView(Product product) {
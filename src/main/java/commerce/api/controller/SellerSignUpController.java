@@ -1,30 +1,80 @@
 package commerce.api.controller;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import commerce.Seller;
 import commerce.SellerRepository;
+import commerce.api.PasswordHashingExecutor;
+import commerce.api.SignUpMetrics;
 import commerce.command.CreateSellerCommand;
 import commerce.commandmodel.CreateSellerCommandExecutor;
+import commerce.commandmodel.TakenIdentityFilter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public record SellerSignUpController(
-    Pbkdf2PasswordEncoder passwordEncoder,
-    SellerRepository repository
+    PasswordEncoder passwordEncoder,
+    PasswordHashingExecutor hashingExecutor,
+    SellerRepository repository,
+    @Qualifier("sellerIdentityFilter") TakenIdentityFilter identityFilter,
+    SignUpMetrics signUpMetrics
 ) {
 
     @PostMapping("/seller/signUp")
-    ResponseEntity<?> signUp(@RequestBody CreateSellerCommand command) {
+    CompletableFuture<ResponseEntity<?>> signUp(
+        @RequestBody CreateSellerCommand command
+    ) {
         var executor = new CreateSellerCommandExecutor(
-            passwordEncoder::encode,
-            repository::save
+            this::isEmailTaken,
+            this::isUsernameTaken,
+            this::hashPassword,
+            this::save
         );
-        executor.execute(UUID.randomUUID(), command);
-        return ResponseEntity.noContent().build();
+        return executor
+            .execute(UUID.randomUUID(), command)
+            .thenApply(result -> ResponseEntity.noContent().build());
+    }
+
+    private CompletableFuture<String> hashPassword(String password) {
+        return hashingExecutor.submit(() -> passwordEncoder.encode(password));
+    }
+
+    private boolean isEmailTaken(String email) {
+        if (identityFilter.mightContainEmail(email)
+            && repository.existsByEmail(email)) {
+            signUpMetrics.sellerEmailRejections().increment();
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean isUsernameTaken(String username) {
+        if (identityFilter.mightContainUsername(username)
+            && repository.existsByUsername(username)) {
+            signUpMetrics.sellerUsernameRejections().increment();
+            return true;
+        }
+
+        return false;
+    }
+
+    private void save(Seller seller) {
+        try {
+            repository.save(seller);
+        } catch (DataIntegrityViolationException exception) {
+            signUpMetrics.sellerConstraintRejections().increment();
+            throw exception;
+        }
+
+        identityFilter.addEmail(seller.getEmail());
+        identityFilter.addUsername(seller.getUsername());
     }
 }
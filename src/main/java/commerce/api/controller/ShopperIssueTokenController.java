@@ -1,13 +1,15 @@
 package commerce.api.controller;
 
-import javax.crypto.spec.SecretKeySpec;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import commerce.Shopper;
 import commerce.ShopperRepository;
+import commerce.api.AccessTokenIssuer;
+import commerce.api.PasswordHashingExecutor;
+import commerce.api.SecurityMetrics;
 import commerce.query.IssueShopperToken;
 import commerce.result.AccessTokenCarrier;
-import io.jsonwebtoken.Jwts;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,29 +20,43 @@ import org.springframework.web.bind.annotation.RestController;
 public record ShopperIssueTokenController(
     ShopperRepository repository,
     PasswordEncoder passwordEncoder,
-    @Value("${security.jwt.secret}") String jwtSecret
+    PasswordHashingExecutor hashingExecutor,
+    AccessTokenIssuer tokenIssuer,
+    SecurityMetrics securityMetrics
 ) {
 
     @PostMapping("/shopper/issueToken")
-    ResponseEntity<?> issueToken(@RequestBody IssueShopperToken query) {
-        return repository
-            .findByEmail(query.email())
-            .filter(shopper -> passwordEncoder.matches(
-                query.password(),
-                shopper.getHashedPassword()
-            ))
-            .map(this::composeToken)
-            .map(AccessTokenCarrier::new)
-            .map(ResponseEntity::ok)
-            .orElseGet(() -> ResponseEntity.badRequest().build());
+    CompletableFuture<ResponseEntity<?>> issueToken(
+        @RequestBody IssueShopperToken query
+    ) {
+        // Only the CPU-bound password check takes a hashing slot; the
+        // repository lookup stays on the request thread.
+        Optional<Shopper> shopper = repository.findByEmail(query.email());
+        if (shopper.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                ResponseEntity.badRequest().build()
+            );
+        }
+
+        return verifyPassword(query.password(), shopper.get())
+            .thenApply(matches -> matches
+                ? ResponseEntity.ok(new AccessTokenCarrier(composeToken(shopper.get())))
+                : ResponseEntity.badRequest().build());
+    }
+
+    private CompletableFuture<Boolean> verifyPassword(
+        String password,
+        Shopper shopper
+    ) {
+        return hashingExecutor.submit(() -> passwordEncoder.matches(
+            password,
+            shopper.getHashedPassword()
+        ));
     }
 
     private String composeToken(Shopper shopper) {
-        return Jwts
-            .builder()
-            .signWith(new SecretKeySpec(jwtSecret.getBytes(), "HmacSHA256"))
-            .setSubject(shopper.getId().toString())
-            .claim("scp", "ROLE_SHOPPER")
-            .compact();
+        return securityMetrics.tokenIssueTimer().record(
+            () -> tokenIssuer.issue(shopper.getId(), "ROLE_SHOPPER")
+        );
     }
 }
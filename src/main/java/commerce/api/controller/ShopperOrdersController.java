@@ -0,0 +1,59 @@
+package commerce.api.controller;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import commerce.Order;
+import commerce.OrderRepository;
+import commerce.command.PlaceOrderCommand;
+import commerce.commandmodel.OrderGroupCommitter;
+import commerce.commandmodel.PlaceOrderCommandExecutor;
+import commerce.view.OrderView;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public record ShopperOrdersController(
+    OrderGroupCommitter orderCommitter,
+    OrderRepository repository
+) {
+
+    @PostMapping("/shopper/orders")
+    CompletableFuture<ResponseEntity<?>> placeOrder(
+        @RequestBody PlaceOrderCommand command,
+        Principal user
+    ) {
+        UUID shopperId = UUID.fromString(user.getName());
+        var executor = new PlaceOrderCommandExecutor(orderCommitter::submit);
+        return executor.execute(shopperId, command).thenApply(id -> {
+            URI location = URI.create("/shopper/orders/" + id);
+            return ResponseEntity.created(location).build();
+        });
+    }
+
+    @GetMapping("/shopper/orders/{id}")
+    ResponseEntity<?> findOrder(@PathVariable UUID id, Principal user) {
+        UUID shopperId = UUID.fromString(user.getName());
+        return repository
+            .find(id)
+            .filter(order -> order.getShopperId().equals(shopperId))
+            .map(ShopperOrdersController::toView)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static OrderView toView(Order order) {
+        return new OrderView(
+            order.getId(),
+            order.getProductId(),
+            order.getQuantity(),
+            order.getPlacedTimeUtc()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package commerce.api.controller;
+
+import commerce.query.SearchProducts;
+import commerce.querymodel.ProductSearchIndex;
+import commerce.querymodel.SearchProductsQueryProcessor;
+import commerce.result.ArrayCarrier;
+import commerce.view.ProductView;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public final class ShopperProductSearchController {
+
+    private final SearchProductsQueryProcessor processor;
+
+    public ShopperProductSearchController(
+        EntityManager entityManager,
+        ProductSearchIndex index,
+        @Value("${feed.search.default-limit}") int defaultLimit,
+        @Value("${feed.search.maximum-limit}") int maximumLimit
+    ) {
+        this.processor = new SearchProductsQueryProcessor(
+            entityManager,
+            index,
+            defaultLimit,
+            maximumLimit
+        );
+    }
+
+    @GetMapping("/shopper/products/search")
+    ArrayCarrier<ProductView> searchProducts(
+        @RequestParam String q,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return processor.process(new SearchProducts(q, limit));
+    }
+}
@@ -1,9 +1,16 @@
 package commerce.api.controller;
 
+import java.math.BigDecimal;
+
 import commerce.query.GetProductPage;
+import commerce.query.ProductSortOrder;
+import commerce.querymodel.ContinuationTokenCodec;
 import commerce.querymodel.GetProductPageQueryProcessor;
+import commerce.querymodel.ProductFeedMetrics;
+import commerce.querymodel.ProductPageCache;
 import commerce.result.PageCarrier;
 import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,16 +19,43 @@ import org.springframework.web.bind.annotation.RestController;
 public final class ShopperProductsController {
 
     private final GetProductPageQueryProcessor processor;
+    private final ProductPageCache pageCache;
 
-    public ShopperProductsController(EntityManager entityManager) {
-        this.processor = new GetProductPageQueryProcessor(entityManager);
+    public ShopperProductsController(
+        EntityManager entityManager,
+        ContinuationTokenCodec tokenCodec,
+        ProductPageCache pageCache,
+        ProductFeedMetrics metrics,
+        @Value("${feed.default-page-size}") int defaultPageSize,
+        @Value("${feed.maximum-page-size}") int maximumPageSize
+    ) {
+        this.processor = new GetProductPageQueryProcessor(
+            entityManager,
+            tokenCodec,
+            defaultPageSize,
+            maximumPageSize,
+            metrics
+        );
+        this.pageCache = pageCache;
     }
 
     @GetMapping("/shopper/products")
     PageCarrier<?> getProducts(
-        @RequestParam(required = false) String continuationToken
+        @RequestParam(required = false) String continuationToken,
+        @RequestParam(required = false) Integer pageSize,
+        @RequestParam(required = false) BigDecimal minPrice,
+        @RequestParam(required = false) BigDecimal maxPrice,
+        @RequestParam(required = false) Boolean inStockOnly,
+        @RequestParam(required = false) ProductSortOrder sortOrder
     ) {
-        var query = new GetProductPage(continuationToken);
-        return processor.process(query);
+        var query = new GetProductPage(
+            continuationToken,
+            pageSize,
+            minPrice,
+            maxPrice,
+            inStockOnly,
+            sortOrder
+        );
+        return pageCache.get(query, processor::process);
     }
 }
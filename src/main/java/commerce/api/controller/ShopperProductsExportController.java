@@ -0,0 +1,66 @@
+package commerce.api.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import commerce.querymodel.ExportProductsQueryProcessor;
+import commerce.view.ProductView;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public final class ShopperProductsExportController {
+
+    private static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private final ExportProductsQueryProcessor processor;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+
+    public ShopperProductsExportController(
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        @Value("${feed.export.fetch-size}") int fetchSize
+    ) {
+        this.processor = new ExportProductsQueryProcessor(
+            entityManager,
+            fetchSize
+        );
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.writer = objectMapper
+            .writerFor(ProductView.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    @GetMapping("/shopper/products/export")
+    void export(HttpServletResponse response) throws IOException {
+        response.setContentType(CONTENT_TYPE);
+        var stream = new BufferedOutputStream(response.getOutputStream());
+        transactionTemplate.executeWithoutResult(
+            status -> processor.process(view -> writeLine(stream, view))
+        );
+        stream.flush();
+    }
+
+    private void writeLine(OutputStream stream, ProductView view) {
+        try {
+            writer.writeValue(stream, view);
+            stream.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
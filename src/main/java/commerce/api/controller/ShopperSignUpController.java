@@ -1,30 +1,65 @@
 package commerce.api.controller;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-import commerce.Patterns;
 import commerce.Shopper;
 import commerce.ShopperRepository;
+import commerce.api.PasswordHashingExecutor;
+import commerce.api.SignUpMetrics;
 import commerce.command.CreateShopperCommand;
+import commerce.commandmodel.SignUpField;
+import commerce.commandmodel.SignUpValidator;
+import commerce.commandmodel.TakenIdentityFilter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 @RestController
 public record ShopperSignUpController(
-    Pbkdf2PasswordEncoder passwordEncoder,
-    ShopperRepository repository
+    PasswordEncoder passwordEncoder,
+    PasswordHashingExecutor hashingExecutor,
+    ShopperRepository repository,
+    @Qualifier("shopperIdentityFilter") TakenIdentityFilter identityFilter,
+    SignUpMetrics signUpMetrics
 ) {
 
     @PostMapping("/shopper/signUp")
-    ResponseEntity<?> signUp(@RequestBody CreateShopperCommand command) {
-        if (isCommandValid(command) == false) {
-            return ResponseEntity.badRequest().build();
+    CompletableFuture<ResponseEntity<?>> signUp(
+        @RequestBody CreateShopperCommand command
+    ) {
+        SignUpField invalidField = SignUpValidator.findInvalidField(
+            command.email(),
+            command.username(),
+            command.password()
+        );
+
+        if (invalidField != null) {
+            return completedFuture(
+                ErrorResponses.invariantViolation(invalidField.getInvariant())
+            );
+        } else if (isEmailTaken(command.email())) {
+            signUpMetrics.shopperEmailRejections().increment();
+            return completedFuture(
+                ErrorResponses.invariantViolation("uniqueEmail")
+            );
+        } else if (isUsernameTaken(command.username())) {
+            signUpMetrics.shopperUsernameRejections().increment();
+            return completedFuture(
+                ErrorResponses.invariantViolation("uniqueUsername")
+            );
         }
 
+        return hashingExecutor.submit(() -> createShopper(command));
+    }
+
+    private ResponseEntity<?> createShopper(CreateShopperCommand command) {
         UUID id = UUID.randomUUID();
         String hashedPassword = passwordEncoder.encode(command.password());
         var shopper = new Shopper();
@@ -36,27 +71,22 @@ public record ShopperSignUpController(
         try {
             repository.save(shopper);
         } catch (DataIntegrityViolationException exception) {
-            return ResponseEntity.badRequest().build();
+            signUpMetrics.shopperConstraintRejections().increment();
+            return ErrorResponses.dataIntegrityViolation();
         }
 
+        identityFilter.addEmail(shopper.getEmail());
+        identityFilter.addUsername(shopper.getUsername());
         return ResponseEntity.noContent().build();
     }
 
-    private static boolean isCommandValid(CreateShopperCommand command) {
-        return isEmailValid(command.email())
-            && isUsernameValid(command.username())
-            && isPasswordValid(command.password());
-    }
-
-    private static boolean isEmailValid(String email) {
-        return email != null && email.matches(Patterns.EMAIL_REGEX);
-    }
-
-    private static boolean isUsernameValid(String username) {
-        return username != null && username.matches(Patterns.USERNAME_REGEX);
+    private boolean isEmailTaken(String email) {
+        return identityFilter.mightContainEmail(email)
+            && repository.existsByEmail(email);
     }
 
-    private static boolean isPasswordValid(String password) {
-        return password != null && password.length() >= 8;
+    private boolean isUsernameTaken(String username) {
+        return identityFilter.mightContainUsername(username)
+            && repository.existsByUsername(username);
     }
 }
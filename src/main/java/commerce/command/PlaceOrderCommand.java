@@ -0,0 +1,6 @@
+package commerce.command;
+
+import java.util.UUID;
+
+public record PlaceOrderCommand(UUID productId, int quantity) {
+}
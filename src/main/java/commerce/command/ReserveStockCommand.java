@@ -0,0 +1,4 @@
+package commerce.command;
+
+public record ReserveStockCommand(int quantity) {
+}
@@ -1,8 +1,10 @@
 package commerce.commandmodel;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.function.UnaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import commerce.Seller;
 import commerce.command.CreateSellerCommand;
@@ -11,25 +13,46 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class CreateSellerCommandExecutor {
 
-    private final UnaryOperator<String> passwordHasher;
+    private final Predicate<String> isEmailTaken;
+    private final Predicate<String> isUsernameTaken;
+    private final Function<String, CompletableFuture<String>> passwordHasher;
     private final Consumer<Seller> sellerStore;
 
-    public void execute(UUID id, CreateSellerCommand command) {
+    public CompletableFuture<Void> execute(UUID id, CreateSellerCommand command) {
         validateCommand(command);
-        var seller = createSeller(id, command);
-        persistNewSeller(seller);
+        ensureIdentityAvailable(command);
+        return hashPassword(command).thenAccept(hashedPassword -> {
+            var seller = createSeller(id, command, hashedPassword);
+            persistNewSeller(seller);
+        });
     }
 
     private static void validateCommand(CreateSellerCommand command) {
         CreateSellerCommandValidator.validate(command);
     }
 
-    private Seller createSeller(UUID id, CreateSellerCommand command) {
+    private void ensureIdentityAvailable(CreateSellerCommand command) {
+        if (isEmailTaken.test(command.email())) {
+            throw new InvariantViolationException("uniqueEmail");
+        } else if (isUsernameTaken.test(command.username())) {
+            throw new InvariantViolationException("uniqueUsername");
+        }
+    }
+
+    private CompletableFuture<String> hashPassword(CreateSellerCommand command) {
+        return passwordHasher.apply(command.password());
+    }
+
+    private static Seller createSeller(
+        UUID id,
+        CreateSellerCommand command,
+        String hashedPassword
+    ) {
         var seller = new Seller();
         seller.setId(id);
         seller.setEmail(command.email());
         seller.setUsername(command.username());
-        seller.setHashedPassword(passwordHasher.apply(command.password()));
+        seller.setHashedPassword(hashedPassword);
         return seller;
     }
 
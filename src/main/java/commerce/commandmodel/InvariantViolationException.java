@@ -1,4 +1,15 @@
 package commerce.commandmodel;
 
 public class InvariantViolationException extends RuntimeException {
+
+    private final String invariant;
+
+    public InvariantViolationException(String invariant) {
+        super(invariant, null, false, false);
+        this.invariant = invariant;
+    }
+
+    public String getInvariant() {
+        return invariant;
+    }
 }
@@ -0,0 +1,164 @@
+package commerce.commandmodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import commerce.Order;
+import commerce.command.ReserveStockCommand;
+
+public class OrderGroupCommitter {
+
+    private record PendingOrder(Order order, CompletableFuture<UUID> result) {
+    }
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final int maximumBatchSize;
+    private final BlockingQueue<PendingOrder> queue;
+    private final Consumer<Runnable> transaction;
+    private final ReserveStockCommandExecutor stockReservation;
+    private final Consumer<List<Order>> orderStore;
+    private final Consumer<List<Order>> commitListener;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public OrderGroupCommitter(
+        int maximumBatchSize,
+        int queueCapacity,
+        Consumer<Runnable> transaction,
+        ReserveStockCommandExecutor stockReservation,
+        Consumer<List<Order>> orderStore,
+        Consumer<List<Order>> commitListener
+    ) {
+        this.maximumBatchSize = maximumBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.transaction = transaction;
+        this.stockReservation = stockReservation;
+        this.orderStore = orderStore;
+        this.commitListener = commitListener;
+        this.worker = Thread
+            .ofPlatform()
+            .name("order-group-commit")
+            .daemon()
+            .start(this::run);
+    }
+
+    public CompletableFuture<UUID> submit(Order order) {
+        var pending = new PendingOrder(order, new CompletableFuture<>());
+        if (running == false || queue.offer(pending) == false) {
+            throw new RejectedExecutionException();
+        }
+
+        // An offer that lands after the worker's final drain would never be
+        // completed, so it is taken back unless the worker got to it first.
+        if (running == false && queue.remove(pending)) {
+            throw new RejectedExecutionException();
+        }
+
+        return pending.result();
+    }
+
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join();
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(maximumBatchSize);
+        while (running || queue.isEmpty() == false) {
+            PendingOrder first;
+            try {
+                first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                break;
+            }
+
+            if (first == null) {
+                continue;
+            }
+
+            // Orders that arrived while the previous batch was committing are
+            // committed together, so the batch grows with the load without
+            // making a lone order wait for company.
+            batch.add(first);
+            queue.drainTo(batch, maximumBatchSize - 1);
+            commit(batch);
+            batch.clear();
+        }
+
+        queue.drainTo(batch);
+        for (PendingOrder pending : batch) {
+            pending.result().completeExceptionally(
+                new RejectedExecutionException()
+            );
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        String[] violations = new String[batch.size()];
+        List<Order> placed = new ArrayList<>(batch.size());
+        try {
+            transaction.accept(() -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    Order order = batch.get(i).order();
+                    violations[i] = reserveStock(order);
+                    if (violations[i] == null) {
+                        placed.add(order);
+                    }
+                }
+
+                orderStore.accept(placed);
+            });
+        } catch (RuntimeException exception) {
+            for (PendingOrder pending : batch) {
+                pending.result().completeExceptionally(exception);
+            }
+
+            return;
+        }
+
+        if (placed.isEmpty()) {
+            complete(batch, violations);
+            return;
+        }
+
+        // The listener runs once per batch and off the worker thread, so the
+        // next batch can start committing. Results are handed out after it
+        // has run, so a shopper who reads right after ordering sees its effect.
+        List<PendingOrder> committed = List.copyOf(batch);
+        CompletableFuture
+            .runAsync(() -> commitListener.accept(placed))
+            .whenComplete((ignored, failure) -> complete(committed, violations));
+    }
+
+    private static void complete(List<PendingOrder> batch, String[] violations) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingOrder pending = batch.get(i);
+            if (violations[i] == null) {
+                pending.result().complete(pending.order().getId());
+            } else {
+                pending.result().completeExceptionally(
+                    new InvariantViolationException(violations[i])
+                );
+            }
+        }
+    }
+
+    private String reserveStock(Order order) {
+        var command = new ReserveStockCommand(order.getQuantity());
+        try {
+            return stockReservation.execute(order.getProductId(), command)
+                ? null
+                : "productId";
+        } catch (InvariantViolationException exception) {
+            return exception.getInvariant();
+        }
+    }
+}
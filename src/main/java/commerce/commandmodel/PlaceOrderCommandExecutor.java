@@ -0,0 +1,50 @@
+package commerce.commandmodel;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import commerce.Order;
+import commerce.command.PlaceOrderCommand;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class PlaceOrderCommandExecutor {
+
+    private final Function<Order, CompletableFuture<UUID>> orderQueue;
+
+    public CompletableFuture<UUID> execute(
+        UUID shopperId,
+        PlaceOrderCommand command
+    ) {
+        validateCommand(command);
+        var order = createOrder(shopperId, command);
+        return enqueueNewOrder(order);
+    }
+
+    private static void validateCommand(PlaceOrderCommand command) {
+        if (command == null) {
+            throw new InvariantViolationException("order");
+        } else if (command.productId() == null) {
+            throw new InvariantViolationException("productId");
+        } else if (command.quantity() <= 0) {
+            throw new InvariantViolationException("quantity");
+        }
+    }
+
+    private static Order createOrder(UUID shopperId, PlaceOrderCommand command) {
+        var order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setShopperId(shopperId);
+        order.setProductId(command.productId());
+        order.setQuantity(command.quantity());
+        order.setPlacedTimeUtc(LocalDateTime.now(ZoneOffset.UTC));
+        return order;
+    }
+
+    private CompletableFuture<UUID> enqueueNewOrder(Order order) {
+        return orderQueue.apply(order);
+    }
+}
@@ -0,0 +1,32 @@
+package commerce.commandmodel;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import commerce.Product;
+import commerce.Seller;
+import commerce.command.RegisterProductCommand;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class RegisterProductCommandExecutor {
+
+    private final Consumer<Product> productStore;
+
+    public UUID execute(Seller seller, RegisterProductCommand command) {
+        RegisterProductCommandValidator.validate(command);
+        Product product = RegisterProductCommandMapper.createProduct(
+            seller,
+            command,
+            LocalDateTime.now(ZoneOffset.UTC)
+        );
+        persistNewProduct(product);
+        return product.getId();
+    }
+
+    private void persistNewProduct(Product product) {
+        productStore.accept(product);
+    }
+}
@@ -0,0 +1,28 @@
+package commerce.commandmodel;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import commerce.Product;
+import commerce.Seller;
+import commerce.command.RegisterProductCommand;
+
+class RegisterProductCommandMapper {
+
+    public static Product createProduct(
+        Seller seller,
+        RegisterProductCommand command,
+        LocalDateTime registeredTimeUtc
+    ) {
+        var product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setSellerId(seller.getId());
+        product.setSellerUsername(seller.getUsername());
+        product.setName(command.name());
+        product.setDescription(command.description());
+        product.setPriceAmount(command.priceAmount());
+        product.setStockQuantity(command.stockQuantity());
+        product.setRegisteredTimeUtc(registeredTimeUtc);
+        return product;
+    }
+}
@@ -0,0 +1,32 @@
+package commerce.commandmodel;
+
+import java.math.BigDecimal;
+
+import commerce.command.RegisterProductCommand;
+
+class RegisterProductCommandValidator {
+
+    public static void validate(RegisterProductCommand command) {
+        if (command == null) {
+            throw new InvariantViolationException("product");
+        } else if (isNameValid(command.name()) == false) {
+            throw new InvariantViolationException("name");
+        } else if (isPriceAmountValid(command.priceAmount()) == false) {
+            throw new InvariantViolationException("priceAmount");
+        } else if (isStockQuantityValid(command.stockQuantity()) == false) {
+            throw new InvariantViolationException("stockQuantity");
+        }
+    }
+
+    private static boolean isNameValid(String name) {
+        return name != null && name.isBlank() == false;
+    }
+
+    private static boolean isPriceAmountValid(BigDecimal priceAmount) {
+        return priceAmount != null && priceAmount.signum() >= 0;
+    }
+
+    private static boolean isStockQuantityValid(int stockQuantity) {
+        return stockQuantity >= 0;
+    }
+}
@@ -0,0 +1,60 @@
+package commerce.commandmodel;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import commerce.Product;
+import commerce.Seller;
+import commerce.command.RegisterProductCommand;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class RegisterProductsCommandExecutor {
+
+    private final int maximumBatchSize;
+    private final Consumer<List<Product>> productStore;
+
+    public UUID[] execute(Seller seller, RegisterProductCommand[] commands) {
+        validateCommands(commands);
+        List<Product> products = createProducts(seller, commands);
+        persistNewProducts(products);
+        return products.stream().map(Product::getId).toArray(UUID[]::new);
+    }
+
+    private void validateCommands(RegisterProductCommand[] commands) {
+        if (commands == null
+            || commands.length == 0
+            || commands.length > maximumBatchSize) {
+            throw new InvariantViolationException("products");
+        }
+
+        for (RegisterProductCommand command : commands) {
+            RegisterProductCommandValidator.validate(command);
+        }
+    }
+
+    private static List<Product> createProducts(
+        Seller seller,
+        RegisterProductCommand[] commands
+    ) {
+        LocalDateTime registeredTimeUtc = LocalDateTime.now(ZoneOffset.UTC);
+        List<Product> products = new ArrayList<>(commands.length);
+        for (RegisterProductCommand command : commands) {
+            products.add(RegisterProductCommandMapper.createProduct(
+                seller,
+                command,
+                registeredTimeUtc
+            ));
+        }
+
+        return products;
+    }
+
+    private void persistNewProducts(List<Product> products) {
+        productStore.accept(products);
+    }
+}
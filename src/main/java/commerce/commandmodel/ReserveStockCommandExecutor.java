@@ -0,0 +1,39 @@
+package commerce.commandmodel;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+
+import commerce.command.ReserveStockCommand;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class ReserveStockCommandExecutor {
+
+    private final ToIntBiFunction<UUID, Integer> stockDecreaser;
+    private final Predicate<UUID> productExists;
+
+    public boolean execute(UUID productId, ReserveStockCommand command) {
+        validateCommand(command);
+        if (decreaseStock(productId, command.quantity())) {
+            return true;
+        } else if (productExists.test(productId)) {
+            throw new InvariantViolationException("stockQuantity");
+        } else {
+            return false;
+        }
+    }
+
+    private static void validateCommand(ReserveStockCommand command) {
+        if (command == null || command.quantity() <= 0) {
+            throw new InvariantViolationException("quantity");
+        }
+    }
+
+    // The decrement and the availability check are a single conditional
+    // statement, so concurrent reservations never read a stale quantity and
+    // the row is locked only for the duration of that statement.
+    private boolean decreaseStock(UUID productId, int quantity) {
+        return stockDecreaser.applyAsInt(productId, quantity) == 1;
+    }
+}
@@ -0,0 +1,17 @@
+package commerce.commandmodel;
+
+public enum SignUpField {
+    EMAIL("email"),
+    USERNAME("username"),
+    PASSWORD("password");
+
+    private final String invariant;
+
+    SignUpField(String invariant) {
+        this.invariant = invariant;
+    }
+
+    public String getInvariant() {
+        return invariant;
+    }
+}
@@ -0,0 +1,34 @@
+package commerce.commandmodel;
+
+import commerce.Patterns;
+
+public class SignUpValidator {
+
+    public static SignUpField findInvalidField(
+        String email,
+        String username,
+        String password
+    ) {
+        if (isEmailValid(email) == false) {
+            return SignUpField.EMAIL;
+        } else if (isUsernameValid(username) == false) {
+            return SignUpField.USERNAME;
+        } else if (isPasswordValid(password) == false) {
+            return SignUpField.PASSWORD;
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isEmailValid(String email) {
+        return email != null && Patterns.matchesEmail(email);
+    }
+
+    private static boolean isUsernameValid(String username) {
+        return username != null && Patterns.matchesUsername(username);
+    }
+
+    private static boolean isPasswordValid(String password) {
+        return password != null && password.length() >= 8;
+    }
+}
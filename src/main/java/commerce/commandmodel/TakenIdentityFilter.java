@@ -0,0 +1,31 @@
+package commerce.commandmodel;
+
+public class TakenIdentityFilter {
+
+    private final BloomFilter emails;
+    private final BloomFilter usernames;
+
+    public TakenIdentityFilter(
+        long expectedInsertions,
+        double falsePositiveProbability
+    ) {
+        emails = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        usernames = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    public void addEmail(String email) {
+        emails.add(email);
+    }
+
+    public void addUsername(String username) {
+        usernames.add(username);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return emails.mightContain(email);
+    }
+
+    public boolean mightContainUsername(String username) {
+        return usernames.mightContain(username);
+    }
+}
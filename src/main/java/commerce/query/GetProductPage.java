@@ -1,4 +1,13 @@
 package commerce.query;
 
-public record GetProductPage(String continuationToken) {
+import java.math.BigDecimal;
+
+public record GetProductPage(
+    String continuationToken,
+    Integer pageSize,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    Boolean inStockOnly,
+    ProductSortOrder sortOrder
+) {
 }
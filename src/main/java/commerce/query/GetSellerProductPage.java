@@ -0,0 +1,6 @@
+package commerce.query;
+
+import java.util.UUID;
+
+public record GetSellerProductPage(UUID sellerId, String continuationToken) {
+}
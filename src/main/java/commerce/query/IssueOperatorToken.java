@@ -0,0 +1,4 @@
+package commerce.query;
+
+public record IssueOperatorToken(String clientId, String clientSecret) {
+}
@@ -0,0 +1,9 @@
+package commerce.query;
+
+public enum ProductSortOrder {
+    SEQUENCE,
+    REGISTERED_TIME_DESC,
+    REGISTERED_TIME_ASC,
+    PRICE_ASC,
+    PRICE_DESC
+}
@@ -0,0 +1,4 @@
+package commerce.query;
+
+public record SearchProducts(String text, Integer limit) {
+}
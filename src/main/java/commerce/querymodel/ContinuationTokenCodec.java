@@ -0,0 +1,259 @@
+package commerce.querymodel;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import commerce.query.ProductSortOrder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Encodes page cursors as URL-safe tokens.
+ *
+ * <p>Layout: {@code version(1) | flags(1) | sequence(8) | [minPrice] |
+ * [maxPrice] | [sortKey] | mac(16)}. The low flag bits mark the filters the
+ * page was requested with and the high bits hold the sort order. Prices are
+ * written as {@code scale(4) | length(1) | unscaled(length)} and times as
+ * {@code epochSecond(8) | nano(4)}.
+ */
+public class ContinuationTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 2;
+    private static final int HAS_MIN_PRICE = 0x01;
+    private static final int HAS_MAX_PRICE = 0x02;
+    private static final int IN_STOCK_ONLY = 0x04;
+    private static final int SORT_ORDER_SHIFT = 4;
+    private static final int SORT_ORDER_MASK = 0x70;
+    private static final int KNOWN_FLAGS =
+        HAS_MIN_PRICE | HAS_MAX_PRICE | IN_STOCK_ONLY | SORT_ORDER_MASK;
+    private static final int HEADER_LENGTH = 1 + 1 + Long.BYTES;
+    private static final int MAXIMUM_PRICE_LENGTH = Integer.BYTES + 1 + 255;
+    private static final int TIME_LENGTH = Long.BYTES + Integer.BYTES;
+    private static final int MAC_LENGTH = 16;
+    private static final int MINIMUM_TOKEN_LENGTH = HEADER_LENGTH + MAC_LENGTH;
+    private static final int MAXIMUM_TOKEN_LENGTH =
+        MINIMUM_TOKEN_LENGTH + 3 * MAXIMUM_PRICE_LENGTH;
+    private static final int MAXIMUM_ENCODED_LENGTH = (MAXIMUM_TOKEN_LENGTH * 4 + 2) / 3;
+
+    private static final Base64.Encoder ENCODER =
+        Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+
+    public ContinuationTokenCodec(String secret) {
+        this.prototype = createMac(deriveKey(secret));
+    }
+
+    String encode(PageCursor cursor) {
+        ProductFilter filter = cursor.filter();
+        ProductSortOrder sortOrder = cursor.sortOrder();
+        byte[] minPrice = unscaledBytes(filter.minPrice());
+        byte[] maxPrice = unscaledBytes(filter.maxPrice());
+        BigDecimal priceKey = isPriceOrder(sortOrder) ? (BigDecimal) cursor.sortKey() : null;
+        LocalDateTime timeKey = isTimeOrder(sortOrder) ? (LocalDateTime) cursor.sortKey() : null;
+        byte[] priceKeyBytes = unscaledBytes(priceKey);
+
+        int flags = (minPrice == null ? 0 : HAS_MIN_PRICE)
+            | (maxPrice == null ? 0 : HAS_MAX_PRICE)
+            | (filter.inStockOnly() ? IN_STOCK_ONLY : 0)
+            | (sortOrderCode(sortOrder) << SORT_ORDER_SHIFT);
+        int length = MINIMUM_TOKEN_LENGTH
+            + priceLength(minPrice)
+            + priceLength(maxPrice)
+            + priceLength(priceKeyBytes)
+            + (timeKey == null ? 0 : TIME_LENGTH);
+
+        byte[] token = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(token)
+            .put(VERSION)
+            .put((byte) flags)
+            .putLong(cursor.sequence());
+        putPrice(buffer, filter.minPrice(), minPrice);
+        putPrice(buffer, filter.maxPrice(), maxPrice);
+        putPrice(buffer, priceKey, priceKeyBytes);
+        if (timeKey != null) {
+            buffer
+                .putLong(timeKey.toEpochSecond(ZoneOffset.UTC))
+                .putInt(timeKey.getNano());
+        }
+
+        sign(token);
+        return ENCODER.encodeToString(token);
+    }
+
+    PageCursor decode(String continuationToken) {
+        if (continuationToken == null || continuationToken.isBlank()) {
+            return null;
+        }
+
+        if (continuationToken.length() > MAXIMUM_ENCODED_LENGTH) {
+            throw new InvalidContinuationTokenException();
+        }
+
+        byte[] token;
+        try {
+            token = DECODER.decode(continuationToken);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidContinuationTokenException();
+        }
+
+        if (token.length < MINIMUM_TOKEN_LENGTH || isSigned(token) == false) {
+            throw new InvalidContinuationTokenException();
+        }
+
+        try {
+            return parse(ByteBuffer.wrap(token, 0, token.length - MAC_LENGTH));
+        } catch (BufferUnderflowException
+                 | NumberFormatException
+                 | DateTimeException exception) {
+            throw new InvalidContinuationTokenException();
+        }
+    }
+
+    private static PageCursor parse(ByteBuffer payload) {
+        byte version = payload.get();
+        int flags = payload.get() & 0xFF;
+        long sequence = payload.getLong();
+
+        if (version != VERSION || (flags & ~KNOWN_FLAGS) != 0) {
+            throw new InvalidContinuationTokenException();
+        }
+
+        ProductSortOrder sortOrder = sortOrder((flags & SORT_ORDER_MASK) >>> SORT_ORDER_SHIFT);
+        BigDecimal minPrice = (flags & HAS_MIN_PRICE) == 0 ? null : getPrice(payload);
+        BigDecimal maxPrice = (flags & HAS_MAX_PRICE) == 0 ? null : getPrice(payload);
+        Object sortKey = null;
+        if (isPriceOrder(sortOrder)) {
+            sortKey = getPrice(payload);
+        } else if (isTimeOrder(sortOrder)) {
+            sortKey = LocalDateTime.ofEpochSecond(
+                payload.getLong(),
+                payload.getInt(),
+                ZoneOffset.UTC
+            );
+        }
+
+        if (payload.hasRemaining()) {
+            throw new InvalidContinuationTokenException();
+        }
+
+        var filter = new ProductFilter(minPrice, maxPrice, (flags & IN_STOCK_ONLY) != 0);
+        return new PageCursor(sequence, sortKey, filter, sortOrder);
+    }
+
+    private static int sortOrderCode(ProductSortOrder sortOrder) {
+        return switch (sortOrder) {
+            case SEQUENCE -> 0;
+            case REGISTERED_TIME_DESC -> 1;
+            case REGISTERED_TIME_ASC -> 2;
+            case PRICE_ASC -> 3;
+            case PRICE_DESC -> 4;
+        };
+    }
+
+    private static ProductSortOrder sortOrder(int code) {
+        return switch (code) {
+            case 0 -> ProductSortOrder.SEQUENCE;
+            case 1 -> ProductSortOrder.REGISTERED_TIME_DESC;
+            case 2 -> ProductSortOrder.REGISTERED_TIME_ASC;
+            case 3 -> ProductSortOrder.PRICE_ASC;
+            case 4 -> ProductSortOrder.PRICE_DESC;
+            default -> throw new InvalidContinuationTokenException();
+        };
+    }
+
+    private static boolean isPriceOrder(ProductSortOrder sortOrder) {
+        return sortOrder == ProductSortOrder.PRICE_ASC
+            || sortOrder == ProductSortOrder.PRICE_DESC;
+    }
+
+    private static boolean isTimeOrder(ProductSortOrder sortOrder) {
+        return sortOrder == ProductSortOrder.REGISTERED_TIME_ASC
+            || sortOrder == ProductSortOrder.REGISTERED_TIME_DESC;
+    }
+
+    private static byte[] unscaledBytes(BigDecimal price) {
+        return price == null ? null : price.unscaledValue().toByteArray();
+    }
+
+    private static int priceLength(byte[] unscaled) {
+        if (unscaled == null) {
+            return 0;
+        } else if (unscaled.length > 255) {
+            throw new IllegalArgumentException("Price is too large to encode.");
+        }
+
+        return Integer.BYTES + 1 + unscaled.length;
+    }
+
+    private static void putPrice(ByteBuffer buffer, BigDecimal price, byte[] unscaled) {
+        if (price != null) {
+            buffer.putInt(price.scale()).put((byte) unscaled.length).put(unscaled);
+        }
+    }
+
+    private static BigDecimal getPrice(ByteBuffer buffer) {
+        int scale = buffer.getInt();
+        byte[] unscaled = new byte[buffer.get() & 0xFF];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private void sign(byte[] token) {
+        byte[] digest = computeMac(token);
+        System.arraycopy(digest, 0, token, token.length - MAC_LENGTH, MAC_LENGTH);
+    }
+
+    private boolean isSigned(byte[] token) {
+        byte[] digest = computeMac(token);
+        int offset = token.length - MAC_LENGTH;
+        int difference = 0;
+        for (int i = 0; i < MAC_LENGTH; i++) {
+            difference |= digest[i] ^ token[offset + i];
+        }
+
+        return difference == 0;
+    }
+
+    private byte[] computeMac(byte[] token) {
+        Mac instance = newMac();
+        instance.update(token, 0, token.length - MAC_LENGTH);
+        return instance.doFinal();
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static SecretKeySpec deriveKey(String secret) {
+        Mac instance = createMac(new SecretKeySpec(secret.getBytes(UTF_8), ALGORITHM));
+        byte[] key = instance.doFinal("continuation-token".getBytes(UTF_8));
+        return new SecretKeySpec(key, ALGORITHM);
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
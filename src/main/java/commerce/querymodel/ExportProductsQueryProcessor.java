@@ -0,0 +1,36 @@
+package commerce.querymodel;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import commerce.view.ProductView;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@AllArgsConstructor
+public class ExportProductsQueryProcessor {
+
+    private static final String QUERY = "Product.feedFirstPage";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public void process(Consumer<ProductView> sink) {
+        try (Stream<ProductFeedRow> rows = openCursor()) {
+            rows.map(ProductFeedRow::toView).forEach(sink);
+        }
+    }
+
+    private Stream<ProductFeedRow> openCursor() {
+        return entityManager
+            .createNamedQuery(QUERY, ProductFeedRow.class)
+            .setHint(HINT_READ_ONLY, true)
+            .setHint(HINT_FLUSH_MODE, "MANUAL")
+            .setHint(HINT_FETCH_SIZE, fetchSize)
+            .getResultStream();
+    }
+}
@@ -1,63 +1,230 @@
 package commerce.querymodel;
 
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.List;
 
 import commerce.query.GetProductPage;
+import commerce.query.ProductSortOrder;
 import commerce.result.PageCarrier;
 import commerce.view.ProductView;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.AllArgsConstructor;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @AllArgsConstructor
 public class GetProductPageQueryProcessor {
 
-    private static final int PAGE_SIZE = 10;
+    private static final String FIRST_PAGE_QUERY = "Product.feedFirstPage";
+    private static final String NEXT_PAGE_QUERY = "Product.feedNextPage";
 
-    private static final String JPQL = """
-        SELECT new commerce.querymodel.ProductWithSeller(p, s)
+    // Product sequences start at 1, so a cursor at 0 marks the first page.
+    private static final long FIRST_PAGE = 0;
+
+    private static final String SELECT = """
+        SELECT new commerce.querymodel.ProductFeedRow(
+            p.sequence,
+            p.id,
+            p.sellerId,
+            p.sellerUsername,
+            p.name,
+            p.description,
+            p.priceAmount,
+            p.stockQuantity,
+            p.registeredTimeUtc
+        )
         FROM Product p
-        JOIN Seller s ON p.sellerId = s.id
-        WHERE :next IS NULL OR p.sequence <= :next
-        ORDER BY p.sequence DESC
         """;
 
     private final EntityManager entityManager;
+    private final ContinuationTokenCodec tokenCodec;
+    private final int defaultPageSize;
+    private final int maximumPageSize;
+    private final ProductFeedMetrics metrics;
 
     public PageCarrier<ProductView> process(GetProductPage query) {
-        List<ProductWithSeller> results = entityManager
-            .createQuery(JPQL, ProductWithSeller.class)
-            .setParameter("next", decodeNextSequence(query.continuationToken()))
-            .setMaxResults(PAGE_SIZE + 1)
-            .getResultStream()
-            .toList();
+        int pageSize = resolvePageSize(query.pageSize());
+        PageCursor cursor = resolveCursor(
+            query,
+            tokenCodec.decode(query.continuationToken())
+        );
 
-        ProductView[] items = results
-            .stream()
-            .limit(PAGE_SIZE)
-            .map(ProductWithSeller::toView)
-            .toArray(ProductView[]::new);
+        List<ProductFeedRow> results = metrics
+            .queryTimer()
+            .record(() -> fetchRows(cursor, pageSize + 1));
+        metrics.rowsPerPage().record(results.size());
+
+        ProductView[] items = metrics
+            .mappingTimer()
+            .record(() -> mapRows(results, pageSize));
 
-        String nextContinuationToken = results.size() <= PAGE_SIZE
+        String nextContinuationToken = results.size() <= pageSize
             ? null
-            : encodeNextSequence(results.getLast().product().getSequence());
+            : tokenCodec.encode(nextCursor(cursor, results.getLast()));
 
         return new PageCarrier<>(items, nextContinuationToken);
     }
 
-    private static Long decodeNextSequence(String continuationToken) {
-        if (continuationToken == null || continuationToken.isBlank()) {
-            return null;
-        } else {
-            byte[] bytes = Base64.getDecoder().decode(continuationToken);
-            return Long.parseLong(new String(bytes, UTF_8));
+    private static PageCursor resolveCursor(
+        GetProductPage query,
+        PageCursor cursor
+    ) {
+        ProductFilter filter = ProductFilter.of(
+            query.minPrice(),
+            query.maxPrice(),
+            query.inStockOnly()
+        );
+        ProductSortOrder sortOrder = query.sortOrder();
+
+        if (cursor == null) {
+            return new PageCursor(
+                FIRST_PAGE,
+                null,
+                filter,
+                sortOrder == null ? ProductSortOrder.SEQUENCE : sortOrder
+            );
+        } else if (filter.isEmpty() == false && filter.equals(cursor.filter()) == false) {
+            throw new InvalidContinuationTokenException();
+        } else if (sortOrder != null && sortOrder != cursor.sortOrder()) {
+            throw new InvalidContinuationTokenException();
+        }
+
+        return cursor;
+    }
+
+    private static PageCursor nextCursor(PageCursor cursor, ProductFeedRow row) {
+        Object sortKey = switch (cursor.sortOrder()) {
+            case SEQUENCE -> null;
+            case REGISTERED_TIME_DESC, REGISTERED_TIME_ASC -> row.registeredTimeUtc();
+            case PRICE_ASC, PRICE_DESC -> row.priceAmount();
+        };
+        return new PageCursor(
+            row.sequence(),
+            sortKey,
+            cursor.filter(),
+            cursor.sortOrder()
+        );
+    }
+
+    private List<ProductFeedRow> fetchRows(PageCursor cursor, int maxResults) {
+        TypedQuery<ProductFeedRow> query = cursor.filter().isEmpty()
+            && cursor.sortOrder() == ProductSortOrder.SEQUENCE
+            ? createDefaultQuery(cursor)
+            : createQuery(cursor);
+
+        return query
+            .setHint(HINT_READ_ONLY, true)
+            .setHint(HINT_FLUSH_MODE, "MANUAL")
+            .setMaxResults(maxResults)
+            .getResultStream()
+            .toList();
+    }
+
+    private TypedQuery<ProductFeedRow> createDefaultQuery(PageCursor cursor) {
+        return isFirstPage(cursor)
+            ? entityManager.createNamedQuery(FIRST_PAGE_QUERY, ProductFeedRow.class)
+            : entityManager
+                .createNamedQuery(NEXT_PAGE_QUERY, ProductFeedRow.class)
+                .setParameter("next", cursor.sequence());
+    }
+
+    private TypedQuery<ProductFeedRow> createQuery(PageCursor cursor) {
+        ProductFilter filter = cursor.filter();
+        List<String> predicates = new ArrayList<>(5);
+        if (filter.minPrice() != null) {
+            predicates.add("p.priceAmount >= :minPrice");
+        }
+
+        if (filter.maxPrice() != null) {
+            predicates.add("p.priceAmount <= :maxPrice");
+        }
+
+        if (filter.inStockOnly()) {
+            predicates.add("p.stockQuantity > 0");
+        }
+
+        String sortKey = sortKeyPath(cursor.sortOrder());
+        boolean descending = isDescending(cursor.sortOrder());
+        if (isFirstPage(cursor) == false) {
+            predicates.add(keysetPredicate(sortKey, descending));
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        String jpql = SELECT
+            + (predicates.isEmpty() ? "" : "WHERE " + String.join(" AND ", predicates))
+            + " ORDER BY "
+            + (sortKey == null ? "" : sortKey + direction + ", ")
+            + "p.sequence" + direction;
+
+        TypedQuery<ProductFeedRow> query = entityManager
+            .createQuery(jpql, ProductFeedRow.class);
+        if (filter.minPrice() != null) {
+            query.setParameter("minPrice", filter.minPrice());
+        }
+
+        if (filter.maxPrice() != null) {
+            query.setParameter("maxPrice", filter.maxPrice());
+        }
+
+        if (isFirstPage(cursor) == false) {
+            query.setParameter("next", cursor.sequence());
+            if (sortKey != null) {
+                query.setParameter("key", cursor.sortKey());
+            }
+        }
+
+        return query;
+    }
+
+    private static String keysetPredicate(String sortKey, boolean descending) {
+        String sequenceBound = descending ? "p.sequence <= :next" : "p.sequence >= :next";
+        if (sortKey == null) {
+            return sequenceBound;
         }
+
+        // The leading range lets the (sortKey, sequence) index seek straight
+        // to the cursor; the disjunction then breaks ties on sequence.
+        String inclusive = descending ? " <= :key" : " >= :key";
+        String exclusive = descending ? " < :key" : " > :key";
+        return sortKey + inclusive
+            + " AND (" + sortKey + exclusive + " OR " + sequenceBound + ")";
+    }
+
+    private static String sortKeyPath(ProductSortOrder sortOrder) {
+        return switch (sortOrder) {
+            case SEQUENCE -> null;
+            case REGISTERED_TIME_DESC, REGISTERED_TIME_ASC -> "p.registeredTimeUtc";
+            case PRICE_ASC, PRICE_DESC -> "p.priceAmount";
+        };
+    }
+
+    private static boolean isDescending(ProductSortOrder sortOrder) {
+        return switch (sortOrder) {
+            case SEQUENCE, REGISTERED_TIME_DESC, PRICE_DESC -> true;
+            case REGISTERED_TIME_ASC, PRICE_ASC -> false;
+        };
+    }
+
+    private static boolean isFirstPage(PageCursor cursor) {
+        return cursor.sequence() == FIRST_PAGE;
+    }
+
+    private static ProductView[] mapRows(
+        List<ProductFeedRow> rows,
+        int pageSize
+    ) {
+        return rows
+            .stream()
+            .limit(pageSize)
+            .map(ProductFeedRow::toView)
+            .toArray(ProductView[]::new);
     }
 
-    private static String encodeNextSequence(Long nextSequence) {
-        byte[] bytes = nextSequence.toString().getBytes(UTF_8);
-        return Base64.getEncoder().encodeToString(bytes);
+    private int resolvePageSize(Integer pageSize) {
+        return pageSize == null
+            ? defaultPageSize
+            : Math.clamp(pageSize, 1, maximumPageSize);
     }
 }
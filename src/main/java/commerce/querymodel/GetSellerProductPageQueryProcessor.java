@@ -0,0 +1,72 @@
+package commerce.querymodel;
+
+import java.util.List;
+
+import commerce.Product;
+import commerce.query.GetSellerProductPage;
+import commerce.result.PageCarrier;
+import commerce.view.SellerProductView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public class GetSellerProductPageQueryProcessor {
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final String FIRST_PAGE_QUERY = "Product.sellerFirstPage";
+    private static final String NEXT_PAGE_QUERY = "Product.sellerNextPage";
+
+    private final EntityManager entityManager;
+    private final ContinuationTokenCodec tokenCodec;
+
+    public PageCarrier<SellerProductView> process(GetSellerProductPage query) {
+        List<Product> results = createQuery(query)
+            .setParameter("sellerId", query.sellerId())
+            .setMaxResults(PAGE_SIZE + 1)
+            .getResultStream()
+            .toList();
+
+        SellerProductView[] items = results
+            .stream()
+            .limit(PAGE_SIZE)
+            .map(GetSellerProductPageQueryProcessor::toView)
+            .toArray(SellerProductView[]::new);
+
+        String nextContinuationToken = results.size() <= PAGE_SIZE
+            ? null
+            : encodeNextSequence(results.getLast().getSequence());
+
+        return new PageCarrier<>(items, nextContinuationToken);
+    }
+
+    private TypedQuery<Product> createQuery(GetSellerProductPage query) {
+        Long next = decodeNextSequence(query.continuationToken());
+        return next == null
+            ? entityManager.createNamedQuery(FIRST_PAGE_QUERY, Product.class)
+            : entityManager
+                .createNamedQuery(NEXT_PAGE_QUERY, Product.class)
+                .setParameter("next", next);
+    }
+
+    private static SellerProductView toView(Product product) {
+        return new SellerProductView(
+            product.getId(),
+            product.getName(),
+            product.getDescription(),
+            product.getPriceAmount(),
+            product.getStockQuantity(),
+            product.getRegisteredTimeUtc()
+        );
+    }
+
+    private Long decodeNextSequence(String continuationToken) {
+        PageCursor cursor = tokenCodec.decode(continuationToken);
+        return cursor == null ? null : cursor.sequence();
+    }
+
+    private String encodeNextSequence(long nextSequence) {
+        return tokenCodec.encode(new PageCursor(nextSequence));
+    }
+}
@@ -0,0 +1,8 @@
+package commerce.querymodel;
+
+public class InvalidContinuationTokenException extends RuntimeException {
+
+    public InvalidContinuationTokenException() {
+        super(null, null, false, false);
+    }
+}
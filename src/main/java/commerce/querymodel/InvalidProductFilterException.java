@@ -0,0 +1,8 @@
+package commerce.querymodel;
+
+public class InvalidProductFilterException extends RuntimeException {
+
+    public InvalidProductFilterException() {
+        super(null, null, false, false);
+    }
+}
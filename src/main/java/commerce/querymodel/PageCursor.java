@@ -0,0 +1,15 @@
+package commerce.querymodel;
+
+import commerce.query.ProductSortOrder;
+
+record PageCursor(
+    long sequence,
+    Object sortKey,
+    ProductFilter filter,
+    ProductSortOrder sortOrder
+) {
+
+    PageCursor(long sequence) {
+        this(sequence, null, ProductFilter.NONE, ProductSortOrder.SEQUENCE);
+    }
+}
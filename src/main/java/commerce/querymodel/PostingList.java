@@ -0,0 +1,214 @@
+package commerce.querymodel;
+
+import java.util.Arrays;
+
+public final class PostingList {
+
+    private static final int BLOCK_SIZE = 128;
+
+    private byte[] data = new byte[16];
+    private int length;
+    private int count;
+    private long last;
+    private int maximumFrequency;
+    private long[] blockSequences = new long[1];
+    private int[] blockOffsets = new int[1];
+    private int blockCount;
+
+    public int count() {
+        return count;
+    }
+
+    public int maximumFrequency() {
+        return maximumFrequency;
+    }
+
+    public boolean add(long sequence, int frequency) {
+        if (count > 0 && sequence <= last) {
+            if (insert(sequence, frequency) == false) {
+                return false;
+            }
+        } else {
+            append(sequence, frequency);
+        }
+
+        maximumFrequency = Math.max(maximumFrequency, frequency);
+        return true;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void append(long sequence, int frequency) {
+        long base = last;
+        if (count % BLOCK_SIZE == 0) {
+            startBlock(sequence);
+            base = 0;
+        }
+
+        ensureCapacity(20);
+        writeVarLong(sequence - base);
+        writeVarLong(frequency);
+        last = sequence;
+        count++;
+    }
+
+    private boolean insert(long sequence, int frequency) {
+        int block = Math.max(0, findBlock(sequence));
+        int size = count - block * BLOCK_SIZE;
+        long[] sequences = new long[size + 1];
+        int[] frequencies = new int[size + 1];
+        for (int b = block, position = 0; b < blockCount; b++) {
+            position += decodeBlock(b, sequences, frequencies, position);
+        }
+
+        int position = Arrays.binarySearch(sequences, 0, size, sequence);
+        if (position >= 0) {
+            return false;
+        }
+
+        position = -position - 1;
+        System.arraycopy(sequences, position, sequences, position + 1, size - position);
+        System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+        sequences[position] = sequence;
+        frequencies[position] = frequency;
+
+        length = blockOffsets[block];
+        count = block * BLOCK_SIZE;
+        blockCount = block;
+        for (int i = 0; i <= size; i++) {
+            append(sequences[i], frequencies[i]);
+        }
+
+        return true;
+    }
+
+    private int findBlock(long sequence) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (blockSequences[middle] <= sequence) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return high;
+    }
+
+    private int decodeBlock(
+        int block,
+        long[] sequences,
+        int[] frequencies,
+        int position
+    ) {
+        int size = Math.min(BLOCK_SIZE, count - block * BLOCK_SIZE);
+        int offset = blockOffsets[block];
+        long sequence = 0;
+        for (int i = 0; i < size; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            sequence += value;
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[offset++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            sequences[position + i] = sequence;
+            frequencies[position + i] = frequency;
+        }
+
+        return size;
+    }
+
+    private void startBlock(long sequence) {
+        if (blockCount == blockSequences.length) {
+            blockSequences = Arrays.copyOf(blockSequences, blockCount * 2);
+            blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+        }
+
+        blockSequences[blockCount] = sequence;
+        blockOffsets[blockCount] = length;
+        blockCount++;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + additional));
+        }
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        data[length++] = (byte) value;
+    }
+
+    public final class Cursor {
+
+        private final long[] sequences = new long[BLOCK_SIZE];
+        private final int[] frequencies = new int[BLOCK_SIZE];
+        private int block = blockCount;
+        private int position;
+
+        public long sequence() {
+            return block == blockCount ? Long.MAX_VALUE : sequences[position];
+        }
+
+        public int frequency() {
+            return frequencies[position];
+        }
+
+        public boolean next() {
+            if (position > 0 && block < blockCount) {
+                position--;
+                return true;
+            }
+
+            if (block == 0) {
+                return false;
+            }
+
+            load(block - 1);
+            return true;
+        }
+
+        public boolean advanceTo(long target) {
+            if (block == blockCount || blockSequences[block] > target) {
+                int candidate = findBlock(target);
+                if (candidate < 0) {
+                    return false;
+                }
+
+                load(candidate);
+            }
+
+            while (sequences[position] > target) {
+                position--;
+            }
+
+            return true;
+        }
+
+        private void load(int target) {
+            block = target;
+            position = decodeBlock(target, sequences, frequencies, 0) - 1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package commerce.querymodel;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public record ProductFeedMetrics(
+    Timer queryTimer,
+    Timer mappingTimer,
+    DistributionSummary rowsPerPage
+) {
+
+    public static ProductFeedMetrics register(MeterRegistry meterRegistry) {
+        return new ProductFeedMetrics(
+            Timer
+                .builder("feed.query")
+                .description("Time spent fetching feed rows from the database")
+                .register(meterRegistry),
+            Timer
+                .builder("feed.mapping")
+                .description("Time spent mapping feed rows to views")
+                .register(meterRegistry),
+            DistributionSummary
+                .builder("feed.rows")
+                .description("Rows fetched per feed page")
+                .baseUnit("rows")
+                .register(meterRegistry)
+        );
+    }
+}
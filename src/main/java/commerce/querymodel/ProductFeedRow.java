@@ -0,0 +1,32 @@
+package commerce.querymodel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import commerce.view.ProductView;
+import commerce.view.SellerView;
+
+record ProductFeedRow(
+    Long sequence,
+    UUID id,
+    UUID sellerId,
+    String sellerUsername,
+    String name,
+    String description,
+    BigDecimal priceAmount,
+    Integer stockQuantity,
+    LocalDateTime registeredTimeUtc
+) {
+
+    public ProductView toView() {
+        return new ProductView(
+            id,
+            new SellerView(sellerId, sellerUsername),
+            name,
+            description,
+            priceAmount,
+            stockQuantity
+        );
+    }
+}
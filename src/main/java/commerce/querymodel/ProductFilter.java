@@ -0,0 +1,59 @@
+package commerce.querymodel;
+
+import java.math.BigDecimal;
+
+record ProductFilter(
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    boolean inStockOnly
+) {
+
+    static final ProductFilter NONE = new ProductFilter(null, null, false);
+
+    // Keeps the unscaled value well inside the one-byte length prefix of
+    // continuation tokens and rejects exponents no stored price can have.
+    private static final int MAXIMUM_PRICE_DIGITS = 38;
+
+    ProductFilter {
+        minPrice = normalize(minPrice);
+        maxPrice = normalize(maxPrice);
+    }
+
+    static ProductFilter of(
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Boolean inStockOnly
+    ) {
+        return new ProductFilter(
+            minPrice,
+            maxPrice,
+            Boolean.TRUE.equals(inStockOnly)
+        );
+    }
+
+    private static BigDecimal normalize(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+
+        BigDecimal normalized;
+        try {
+            normalized = price.stripTrailingZeros();
+        } catch (ArithmeticException exception) {
+            throw new InvalidProductFilterException();
+        }
+
+        int scale = normalized.scale();
+        if (normalized.precision() > MAXIMUM_PRICE_DIGITS
+            || scale > MAXIMUM_PRICE_DIGITS
+            || scale < -MAXIMUM_PRICE_DIGITS) {
+            throw new InvalidProductFilterException();
+        }
+
+        return normalized;
+    }
+
+    boolean isEmpty() {
+        return minPrice == null && maxPrice == null && inStockOnly == false;
+    }
+}
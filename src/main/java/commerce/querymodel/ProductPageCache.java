@@ -0,0 +1,75 @@
+package commerce.querymodel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import commerce.query.GetProductPage;
+import commerce.query.ProductSortOrder;
+import commerce.result.PageCarrier;
+import commerce.view.ProductView;
+
+public class ProductPageCache {
+
+    private final Cache<PageKey, PageCarrier<ProductView>> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductPageCache(long maximumSize) {
+        this.pages = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public PageCarrier<ProductView> get(
+        GetProductPage query,
+        Function<GetProductPage, PageCarrier<ProductView>> loader
+    ) {
+        PageKey key = PageKey.of(query);
+        PageCarrier<ProductView> page = pages.getIfPresent(key);
+        if (page != null) {
+            return page;
+        }
+
+        long observedGeneration = generation.get();
+        page = loader.apply(query);
+        pages.put(key, page);
+
+        // A product registered while the page was loading invalidates the
+        // page that has just been put, since it may already be stale.
+        if (generation.get() != observedGeneration) {
+            pages.invalidate(key);
+        }
+
+        return page;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    // Keyed by the normalized filter so that equal prices written with a
+    // different scale, such as 200 and 200.00, share a page.
+    private record PageKey(
+        String continuationToken,
+        Integer pageSize,
+        ProductFilter filter,
+        ProductSortOrder sortOrder
+    ) {
+
+        static PageKey of(GetProductPage query) {
+            String continuationToken = query.continuationToken();
+            return new PageKey(
+                continuationToken == null || continuationToken.isBlank()
+                    ? null
+                    : continuationToken,
+                query.pageSize(),
+                ProductFilter.of(
+                    query.minPrice(),
+                    query.maxPrice(),
+                    query.inStockOnly()
+                ),
+                query.sortOrder()
+            );
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package commerce.querymodel;
+
+record ProductSearchDocument(Long sequence, String name, String description) {
+}
@@ -0,0 +1,188 @@
+package commerce.querymodel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAXIMUM_TERM_LENGTH = 64;
+    private static final double SATURATION = 1.2;
+
+    private static final Comparator<Hit> WORST_FIRST = Comparator
+        .comparingDouble(Hit::score)
+        .thenComparingLong(Hit::sequence);
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long documentCount;
+
+    public void add(long sequence, String name, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(name, term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(description, term -> frequencies.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            boolean inserted = false;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                inserted |= postings
+                    .computeIfAbsent(entry.getKey(), key -> new PostingList())
+                    .add(sequence, entry.getValue());
+            }
+
+            if (inserted) {
+                documentCount++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] search(String text, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(text, terms::add);
+        if (terms.isEmpty()) {
+            return new long[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            return searchAll(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] searchAll(Set<String> terms, int limit) {
+        List<PostingList> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                return new long[0];
+            }
+
+            lists.add(list);
+        }
+
+        lists.sort(Comparator.comparingInt(PostingList::count));
+        PostingList.Cursor[] cursors = new PostingList.Cursor[lists.size()];
+        double[] weights = new double[lists.size()];
+        double maximumScore = 0;
+        for (int i = 0; i < cursors.length; i++) {
+            PostingList list = lists.get(i);
+            cursors[i] = list.cursor();
+            weights[i] = inverseDocumentFrequency(list.count());
+            maximumScore += weights[i] * saturate(list.maximumFrequency());
+        }
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        while (isSaturated(top, limit, maximumScore) == false
+            && cursors[0].next()
+            && align(cursors)) {
+            double score = score(cursors, weights);
+            if (top.size() < limit) {
+                top.add(new Hit(cursors[0].sequence(), score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new Hit(cursors[0].sequence(), score));
+            }
+        }
+
+        long[] sequences = new long[top.size()];
+        for (int i = sequences.length - 1; i >= 0; i--) {
+            sequences[i] = top.poll().sequence();
+        }
+
+        return sequences;
+    }
+
+    private static boolean align(PostingList.Cursor[] cursors) {
+        long candidate = cursors[0].sequence();
+        int i = 1;
+        while (i < cursors.length) {
+            PostingList.Cursor cursor = cursors[i];
+            if (cursor.sequence() > candidate && cursor.advanceTo(candidate) == false) {
+                return false;
+            }
+
+            if (cursor.sequence() < candidate) {
+                if (cursors[0].advanceTo(cursor.sequence()) == false) {
+                    return false;
+                }
+
+                candidate = cursors[0].sequence();
+                i = 1;
+            } else {
+                i++;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isSaturated(
+        PriorityQueue<Hit> top,
+        int limit,
+        double maximumScore
+    ) {
+        return top.size() == limit && top.peek().score() >= maximumScore;
+    }
+
+    private static double score(PostingList.Cursor[] cursors, double[] weights) {
+        double score = 0;
+        for (int i = 0; i < cursors.length; i++) {
+            score += weights[i] * saturate(cursors[i].frequency());
+        }
+
+        return score;
+    }
+
+    private static double saturate(int frequency) {
+        return frequency * (SATURATION + 1) / (frequency + SATURATION);
+    }
+
+    private double inverseDocumentFrequency(int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+
+        var term = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                term.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                flush(term, sink);
+            }
+        }
+
+        flush(term, sink);
+    }
+
+    private static void flush(StringBuilder term, Consumer<String> sink) {
+        if (term.isEmpty() == false && term.length() <= MAXIMUM_TERM_LENGTH) {
+            sink.accept(term.toString());
+        }
+
+        term.setLength(0);
+    }
+
+    private record Hit(long sequence, double score) {
+    }
+}
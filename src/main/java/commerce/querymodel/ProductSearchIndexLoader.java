@@ -0,0 +1,38 @@
+package commerce.querymodel;
+
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@AllArgsConstructor
+public class ProductSearchIndexLoader {
+
+    private static final String QUERY = "Product.searchDocuments";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public void load(ProductSearchIndex index) {
+        try (Stream<ProductSearchDocument> documents = openCursor()) {
+            documents.forEach(document -> index.add(
+                document.sequence(),
+                document.name(),
+                document.description()
+            ));
+        }
+    }
+
+    private Stream<ProductSearchDocument> openCursor() {
+        return entityManager
+            .createNamedQuery(QUERY, ProductSearchDocument.class)
+            .setHint(HINT_READ_ONLY, true)
+            .setHint(HINT_FLUSH_MODE, "MANUAL")
+            .setHint(HINT_FETCH_SIZE, fetchSize)
+            .getResultStream();
+    }
+}
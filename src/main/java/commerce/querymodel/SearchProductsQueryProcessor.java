@@ -0,0 +1,62 @@
+package commerce.querymodel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import commerce.query.SearchProducts;
+import commerce.result.ArrayCarrier;
+import commerce.view.ProductView;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@AllArgsConstructor
+public class SearchProductsQueryProcessor {
+
+    private static final String QUERY = "Product.feedBySequences";
+
+    private final EntityManager entityManager;
+    private final ProductSearchIndex index;
+    private final int defaultLimit;
+    private final int maximumLimit;
+
+    public ArrayCarrier<ProductView> process(SearchProducts query) {
+        long[] sequences = index.search(query.text(), resolveLimit(query.limit()));
+        if (sequences.length == 0) {
+            return new ArrayCarrier<>(new ProductView[0]);
+        }
+
+        Map<Long, ProductFeedRow> rows = fetchRows(sequences)
+            .stream()
+            .collect(Collectors.toMap(ProductFeedRow::sequence, Function.identity()));
+
+        ProductView[] items = Arrays
+            .stream(sequences)
+            .mapToObj(rows::get)
+            .filter(row -> row != null)
+            .map(ProductFeedRow::toView)
+            .toArray(ProductView[]::new);
+
+        return new ArrayCarrier<>(items);
+    }
+
+    private List<ProductFeedRow> fetchRows(long[] sequences) {
+        return entityManager
+            .createNamedQuery(QUERY, ProductFeedRow.class)
+            .setHint(HINT_READ_ONLY, true)
+            .setHint(HINT_FLUSH_MODE, "MANUAL")
+            .setParameter("sequences", Arrays.stream(sequences).boxed().toList())
+            .getResultList();
+    }
+
+    private int resolveLimit(Integer limit) {
+        return limit == null
+            ? defaultLimit
+            : Math.clamp(limit, 1, maximumLimit);
+    }
+}
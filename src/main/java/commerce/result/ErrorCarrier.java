@@ -0,0 +1,4 @@
+package commerce.result;
+
+public record ErrorCarrier(String error, String invariant) {
+}
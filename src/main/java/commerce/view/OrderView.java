@@ -0,0 +1,12 @@
+package commerce.view;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderView(
+    UUID id,
+    UUID productId,
+    int quantity,
+    LocalDateTime placedTimeUtc
+) {
+}
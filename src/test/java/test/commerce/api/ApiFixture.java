@@ -4,7 +4,13 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import commerce.api.AccessTokenIssuer;
+import commerce.api.PasswordHashingExecutor;
 import commerce.command.CreateSellerCommand;
 import commerce.command.CreateShopperCommand;
 import commerce.command.RegisterProductCommand;
@@ -20,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.RequestEntity.get;
 import static test.commerce.EmailGenerator.generateEmail;
 import static test.commerce.PasswordGenerator.generatePassword;
@@ -117,6 +124,35 @@ public record ApiFixture(TestRestTemplate client) {
         return registerProducts(token, 3);
     }
 
+    public String consumeSellerProductPage(
+        String accessToken,
+        String continuationToken
+    ) {
+        String argument = continuationToken == null ? "" : continuationToken;
+        String path = "/seller/products?continuationToken=" + argument;
+        ResponseEntity<PageCarrier<?>> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + accessToken).build(),
+            new ParameterizedTypeReference<>() { }
+        );
+        return requireNonNull(response.getBody()).continuationToken();
+    }
+
+    public String consumeSellerProductPage(String accessToken) {
+        return consumeSellerProductPage(accessToken, null);
+    }
+
+    public String consumeSellerProductPages(String accessToken, int pageCount) {
+        String continuationToken = null;
+        for (int i = 0; i < pageCount; i++) {
+            continuationToken = consumeSellerProductPage(
+                accessToken,
+                continuationToken
+            );
+        }
+
+        return continuationToken;
+    }
+
     public String consumeProductPage(
         String accessToken,
         String continuationToken
@@ -145,4 +181,79 @@ public record ApiFixture(TestRestTemplate client) {
 
         return continuationToken;
     }
+
+    public static String issueOperatorToken(AccessTokenIssuer issuer) {
+        return issuer.issue(UUID.randomUUID(), "ROLE_OPERATOR");
+    }
+
+    public static Runnable saturate(PasswordHashingExecutor executor) {
+        int threads = executor.threads();
+        var started = new CountDownLatch(threads);
+        var release = new CountDownLatch(1);
+
+        // Tasks left over from earlier specs may still hold workers or queue
+        // slots, so every worker is first taken by a task of our own.
+        for (int i = 0; i < threads; i++) {
+            submitUntilAccepted(executor, () -> {
+                started.countDown();
+                awaitRelease(release);
+                return null;
+            });
+        }
+
+        awaitStarted(started);
+
+        try {
+            while (true) {
+                executor.submit(() -> {
+                    awaitRelease(release);
+                    return null;
+                });
+            }
+        } catch (RejectedExecutionException exception) {
+            assertThat(executor.activeCount()).isEqualTo(threads);
+            assertThat(executor.remainingQueueCapacity()).isZero();
+            return release::countDown;
+        }
+    }
+
+    private static void submitUntilAccepted(
+        PasswordHashingExecutor executor,
+        Supplier<Object> task
+    ) {
+        while (true) {
+            try {
+                executor.submit(task);
+                return;
+            } catch (RejectedExecutionException exception) {
+                pause();
+            }
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static void awaitStarted(CountDownLatch started) {
+        try {
+            assertThat(started.await(30, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static void awaitRelease(CountDownLatch release) {
+        try {
+            release.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
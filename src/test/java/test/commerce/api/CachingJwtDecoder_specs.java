@@ -0,0 +1,147 @@
+package test.commerce.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import commerce.api.CachingJwtDecoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachingJwtDecoder")
+public class CachingJwtDecoder_specs {
+
+    private static final SecretKey KEY = new SecretKeySpec(
+        "a3b1e2c4-5d6f-4a7b-8c9d-0e1f2a3b4c5d".getBytes(),
+        "HmacSHA256"
+    );
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    @Test
+    void 같은_토큰을_다시_해독하면_캐시된_결과를_반환한다() {
+        // Arrange
+        CachingJwtDecoder sut = createDecoder();
+        String token = issue(Instant.now().plusSeconds(60));
+        Jwt first = sut.decode(token);
+
+        // Act
+        Jwt actual = sut.decode(token);
+
+        // Assert
+        assertThat(actual).isSameAs(first);
+        assertThat(delegateCalls).hasValue(1);
+    }
+
+    @Test
+    void 만료_시각이_없는_토큰도_캐시한다() {
+        // Arrange
+        CachingJwtDecoder sut = createDecoder();
+        String token = issue(null);
+        sut.decode(token);
+
+        // Act
+        sut.decode(token);
+
+        // Assert
+        assertThat(delegateCalls).hasValue(1);
+    }
+
+    @Test
+    void 만료_시각이_지난_토큰은_캐시에서_반환하지_않고_거부한다() throws Exception {
+        // Arrange
+        CachingJwtDecoder sut = createDecoder();
+        Instant expiresAt = Instant.now().plusSeconds(1);
+        String token = issue(expiresAt);
+        sut.decode(token);
+        Thread.sleep(Duration.between(Instant.now(), expiresAt).plusMillis(1100));
+
+        // Act & Assert
+        assertThatThrownBy(() -> sut.decode(token))
+            .isInstanceOf(JwtException.class);
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void 캐시된_토큰과_접두사가_같은_변조된_토큰을_거부한다() {
+        // Arrange
+        CachingJwtDecoder sut = createDecoder();
+        String token = issue(Instant.now().plusSeconds(60));
+        sut.decode(token);
+
+        // Replace a character inside the signature, away from the trailing
+        // character whose low bits are padding.
+        int index = token.length() - 10;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index)
+            + replacement
+            + token.substring(index + 1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> sut.decode(tampered))
+            .isInstanceOf(JwtException.class);
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void 변조된_토큰을_거부한_후에도_원래_토큰은_캐시에서_반환한다() {
+        // Arrange
+        CachingJwtDecoder sut = createDecoder();
+        String token = issue(Instant.now().plusSeconds(60));
+        Jwt first = sut.decode(token);
+        String tampered = token.substring(0, token.length() - 10) + "AAAAAAAAAA";
+        assertThatThrownBy(() -> sut.decode(tampered))
+            .isInstanceOf(JwtException.class);
+
+        // Act
+        Jwt actual = sut.decode(token);
+
+        // Assert
+        assertThat(actual).isSameAs(first);
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    private CachingJwtDecoder createDecoder() {
+        NimbusJwtDecoder verifier = NimbusJwtDecoder.withSecretKey(KEY).build();
+        verifier.setJwtValidator(new JwtTimestampValidator(Duration.ZERO));
+        JwtDecoder delegate = token -> {
+            delegateCalls.incrementAndGet();
+            return verifier.decode(token);
+        };
+        return new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(5));
+    }
+
+    private static String issue(Instant expiresAt) {
+        var encoder = new NimbusJwtEncoder(new ImmutableSecret<>(KEY));
+        JwtClaimsSet.Builder claims = JwtClaimsSet
+            .builder()
+            .subject(UUID.randomUUID().toString())
+            .claim("scp", "SHOPPER");
+        if (expiresAt != null) {
+            claims.expiresAt(expiresAt);
+        }
+
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return encoder
+            .encode(JwtEncoderParameters.from(header, claims.build()))
+            .getTokenValue();
+    }
+}
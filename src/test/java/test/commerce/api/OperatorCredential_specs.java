@@ -0,0 +1,33 @@
+package test.commerce.api;
+
+import commerce.api.OperatorCredential;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OperatorCredential")
+public class OperatorCredential_specs {
+
+    @Test
+    void 클라이언트_비밀이_설정되지_않으면_어떤_자격증명도_허용하지_않는다() {
+        // Arrange
+        var sut = new OperatorCredential("operator", "");
+
+        // Act
+        boolean actual = sut.matches("operator", "");
+
+        // Assert
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void 같은_클라이언트_식별자는_같은_주체로_발행한다() {
+        // Arrange
+        var first = new OperatorCredential("operator", "secret");
+        var second = new OperatorCredential("operator", "another-secret");
+
+        // Act & Assert
+        assertThat(first.subject()).isEqualTo(second.subject());
+    }
+}
@@ -0,0 +1,109 @@
+package test.commerce.api.actuator.metrics;
+
+import commerce.api.AccessTokenIssuer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.get;
+import static test.commerce.api.ApiFixture.issueOperatorToken;
+
+@CommerceApiTest
+@DisplayName("GET /actuator/metrics/{name}")
+public class GET_specs {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "feed.query",
+        "feed.mapping",
+        "feed.rows",
+        "continuation.token.rejected",
+        "password.hash",
+        "password.verify",
+        "jwt.issue",
+        "jwt.decode",
+        "signup.duplicate.rejected"
+    })
+    void 운영자에게_계측_지표를_제공한다(
+        String name,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client,
+        @Autowired AccessTokenIssuer issuer
+    ) {
+        // Arrange
+        fixture.consumeProductPage(fixture.createShopperThenIssueToken());
+        String token = issueOperatorToken(issuer);
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            get("/actuator/metrics/" + name)
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void 구매자_접근_토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            get("/actuator/metrics/feed.query")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    @Test
+    void 판매자_접근_토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            get("/actuator/metrics/feed.query")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    @Test
+    void 접근_토큰을_사용하지_않으면_401_Unauthorized_상태코드를_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Act
+        ResponseEntity<String> response = client.getForEntity(
+            "/actuator/metrics/feed.query",
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(401);
+    }
+}
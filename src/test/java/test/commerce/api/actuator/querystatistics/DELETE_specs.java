@@ -0,0 +1,122 @@
+package test.commerce.api.actuator.querystatistics;
+
+import commerce.api.AccessTokenIssuer;
+import commerce.api.QueryStatisticsEndpoint.Report;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.delete;
+import static org.springframework.http.RequestEntity.get;
+import static test.commerce.api.ApiFixture.issueOperatorToken;
+
+@CommerceApiTest
+@ActiveProfiles("query-statistics")
+@TestPropertySource(properties = "server.port=0")
+@DisplayName("DELETE /actuator/querystatistics")
+public class DELETE_specs {
+
+    @Test
+    void 운영자가_요청하면_204_No_Content_상태코드를_반환한다(
+        @Autowired TestRestTemplate client,
+        @Autowired AccessTokenIssuer issuer
+    ) {
+        // Arrange
+        String token = issueOperatorToken(issuer);
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            delete("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(204);
+    }
+
+    @Test
+    void 운영자가_요청하면_수집한_통계를_초기화한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client,
+        @Autowired AccessTokenIssuer issuer
+    ) {
+        // Arrange
+        fixture.consumeProductPage(fixture.createShopperThenIssueToken());
+        String token = issueOperatorToken(issuer);
+
+        // Act
+        client.exchange(
+            delete("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        Report actual = getReport(client, token);
+        assertThat(actual.queryExecutionCount()).isZero();
+        assertThat(actual.queries()).isEmpty();
+    }
+
+    @Test
+    void 구매자_접근_토큰을_사용하면_403_Forbidden_상태코드를_반환하고_통계를_유지한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client,
+        @Autowired AccessTokenIssuer issuer
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+        fixture.consumeProductPage(token);
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            delete("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+        Report actual = getReport(client, issueOperatorToken(issuer));
+        assertThat(actual.queryExecutionCount()).isPositive();
+    }
+
+    @Test
+    void 판매자_접근_토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            delete("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    private static Report getReport(TestRestTemplate client, String token) {
+        return client.exchange(
+            get("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            Report.class
+        ).getBody();
+    }
+}
@@ -0,0 +1,90 @@
+package test.commerce.api.actuator.querystatistics;
+
+import commerce.api.AccessTokenIssuer;
+import commerce.api.QueryStatisticsEndpoint.Report;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.get;
+import static test.commerce.api.ApiFixture.issueOperatorToken;
+
+@CommerceApiTest
+@ActiveProfiles("query-statistics")
+@TestPropertySource(properties = "server.port=0")
+@DisplayName("GET /actuator/querystatistics")
+public class GET_specs {
+
+    @Test
+    void 운영자에게_쿼리_통계를_제공한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client,
+        @Autowired AccessTokenIssuer issuer
+    ) {
+        // Arrange
+        fixture.consumeProductPage(fixture.createShopperThenIssueToken());
+        String token = issueOperatorToken(issuer);
+
+        // Act
+        ResponseEntity<Report> response = client.exchange(
+            get("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            Report.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Report actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.queryExecutionCount()).isPositive();
+        assertThat(actual.queries()).isNotEmpty();
+    }
+
+    @Test
+    void 구매자_접근_토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            get("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    @Test
+    void 판매자_접근_토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            get("/actuator/querystatistics")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+}
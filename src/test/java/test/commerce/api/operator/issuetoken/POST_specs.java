@@ -0,0 +1,99 @@
+package test.commerce.api.operator.issuetoken;
+
+import commerce.query.IssueOperatorToken;
+import commerce.result.AccessTokenCarrier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.get;
+
+@CommerceApiTest
+@TestPropertySource(properties = {
+    "server.port=0",
+    "security.operator.client-id=" + POST_specs.CLIENT_ID,
+    "security.operator.client-secret=" + POST_specs.CLIENT_SECRET
+})
+@DisplayName("POST /operator/issueToken")
+public class POST_specs {
+
+    static final String CLIENT_ID = "scraper";
+    static final String CLIENT_SECRET = "8d0f4a51-5f3c-4d8e-9b52-7a1c3e6f2b90";
+
+    @Test
+    void 올바르게_요청하면_200_OK_상태코드를_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Act
+        ResponseEntity<Void> response = client.postForEntity(
+            "/operator/issueToken",
+            new IssueOperatorToken(CLIENT_ID, CLIENT_SECRET),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void 발행한_접근토큰으로_계측_지표를_조회할_수_있다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        fixture.consumeProductPage(fixture.createShopperThenIssueToken());
+        String token = requireNonNull(client.postForEntity(
+            "/operator/issueToken",
+            new IssueOperatorToken(CLIENT_ID, CLIENT_SECRET),
+            AccessTokenCarrier.class
+        ).getBody()).accessToken();
+
+        // Act
+        ResponseEntity<String> response = client.exchange(
+            get("/actuator/metrics/feed.query")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void 존재하지_않는_클라이언트_식별자가_사용되면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Act
+        ResponseEntity<Void> response = client.postForEntity(
+            "/operator/issueToken",
+            new IssueOperatorToken("unknown", CLIENT_SECRET),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 잘못된_클라이언트_비밀이_사용되면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Act
+        ResponseEntity<Void> response = client.postForEntity(
+            "/operator/issueToken",
+            new IssueOperatorToken(CLIENT_ID, "wrong-secret"),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+}
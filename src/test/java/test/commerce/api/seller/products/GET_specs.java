@@ -6,10 +6,13 @@ import java.util.List;
 import java.util.UUID;
 
 import commerce.command.RegisterProductCommand;
-import commerce.result.ArrayCarrier;
+import commerce.result.ErrorCarrier;
+import commerce.result.PageCarrier;
 import commerce.view.SellerProductView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
@@ -58,14 +61,14 @@ public class GET_specs {
 
         // Act
         String path = "/seller/products";
-        ResponseEntity<ArrayCarrier<SellerProductView>> response =
+        ResponseEntity<PageCarrier<SellerProductView>> response =
             client.exchange(
                 get(path).header("Authorization", "Bearer " + token).build(),
                 new ParameterizedTypeReference<>() { }
             );
 
         // Assert
-        ArrayCarrier<SellerProductView> actual = response.getBody();
+        PageCarrier<SellerProductView> actual = response.getBody();
         assertThat(actual).isNotNull();
         assertThat(actual.items())
             .extracting(SellerProductView::id)
@@ -83,7 +86,7 @@ public class GET_specs {
 
         // Act
         String path = "/seller/products";
-        ResponseEntity<ArrayCarrier<SellerProductView>> response =
+        ResponseEntity<PageCarrier<SellerProductView>> response =
             client.exchange(
                 get(path).header("Authorization", "Bearer " + token).build(),
                 new ParameterizedTypeReference<>() { }
@@ -109,7 +112,7 @@ public class GET_specs {
 
         // Act
         String path = "/seller/products";
-        ResponseEntity<ArrayCarrier<SellerProductView>> response =
+        ResponseEntity<PageCarrier<SellerProductView>> response =
             client.exchange(
                 get(path).header("Authorization", "Bearer " + token).build(),
                 new ParameterizedTypeReference<>() { }
@@ -131,14 +134,14 @@ public class GET_specs {
 
         // Act
         String path = "/seller/products";
-        ResponseEntity<ArrayCarrier<SellerProductView>> response =
+        ResponseEntity<PageCarrier<SellerProductView>> response =
             client.exchange(
                 get(path).header("Authorization", "Bearer " + token).build(),
                 new ParameterizedTypeReference<>() { }
             );
 
         // Assert
-        ArrayCarrier<SellerProductView> body = response.getBody();
+        PageCarrier<SellerProductView> body = response.getBody();
         SellerProductView actual = requireNonNull(body).items()[0];
         assertThat(actual.name()).isEqualTo(command.name());
         assertThat(actual.description()).isEqualTo(command.description());
@@ -148,4 +151,137 @@ public class GET_specs {
         assertThat(actual.registeredTimeUtc())
             .isCloseTo(LocalDateTime.now(ZoneOffset.UTC), within(1, SECONDS));
     }
+
+    @Test
+    void 첫번째_페이지를_올바르게_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        fixture.registerProducts(token, 5);
+        fixture.registerProducts(token, 10);
+        List<UUID> ids = fixture.registerProducts(token, 10);
+
+        // Act
+        String path = "/seller/products";
+        ResponseEntity<PageCarrier<SellerProductView>> response =
+            client.exchange(
+                get(path).header("Authorization", "Bearer " + token).build(),
+                new ParameterizedTypeReference<>() { }
+            );
+
+        // Assert
+        assertThat(requireNonNull(response.getBody()).items())
+            .extracting(SellerProductView::id)
+            .containsExactlyElementsOf(ids.reversed());
+    }
+
+    @Test
+    void 두번째_페이지를_올바르게_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        fixture.registerProducts(token, 5);
+        List<UUID> ids = fixture.registerProducts(token, 10);
+        fixture.registerProducts(token, 10);
+
+        String continuationToken = fixture.consumeSellerProductPage(token);
+
+        // Act
+        ResponseEntity<PageCarrier<SellerProductView>> response =
+            client.exchange(
+                get("/seller/products?continuationToken=" + continuationToken)
+                    .header("Authorization", "Bearer " + token)
+                    .build(),
+                new ParameterizedTypeReference<>() { }
+            );
+
+        // Assert
+        assertThat(requireNonNull(response.getBody()).items())
+            .extracting(SellerProductView::id)
+            .containsExactlyElementsOf(ids.reversed());
+    }
+
+    @Test
+    void 마지막_페이지를_올바르게_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        List<UUID> ids = fixture.registerProducts(token, 5);
+        fixture.registerProducts(token, 10);
+        fixture.registerProducts(token, 10);
+
+        String continuationToken = fixture.consumeSellerProductPages(token, 2);
+
+        // Act
+        ResponseEntity<PageCarrier<SellerProductView>> response =
+            client.exchange(
+                get("/seller/products?continuationToken=" + continuationToken)
+                    .header("Authorization", "Bearer " + token)
+                    .build(),
+                new ParameterizedTypeReference<>() { }
+            );
+
+        // Assert
+        PageCarrier<SellerProductView> page = response.getBody();
+        assertThat(requireNonNull(page).items())
+            .extracting(SellerProductView::id)
+            .containsExactlyElementsOf(ids.reversed());
+        assertThat(page.continuationToken()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "invalid-token",
+        "MTA=",
+        "AQAAAAAAAAAACgAAAAAAAAAAAAAAAAAAAAAA",
+        "AQAAAAAAAAAACgAAAAAAAAAAAAAAAAAAAAA"
+    })
+    void 잘못된_연속토큰을_사용하면_400_Bad_Request_상태코드를_반환한다(
+        String continuationToken,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/seller/products?continuationToken=" + continuationToken)
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 잘못된_연속토큰을_사용하면_위반된_불변식을_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            get("/seller/products?continuationToken=invalid-token")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.error()).isEqualTo("InvariantViolation");
+        assertThat(actual.invariant()).isEqualTo("continuationToken");
+    }
 }
@@ -1,9 +1,15 @@
 package test.commerce.api.seller.products;
 
+import java.math.BigDecimal;
 import java.net.URI;
 
+import commerce.command.RegisterProductCommand;
+import commerce.result.ErrorCarrier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.RequestEntity;
@@ -13,6 +19,8 @@ import test.commerce.api.CommerceApiTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.RequestEntity.post;
+import static test.commerce.ProductDescriptionGenerator.generateProductDescription;
+import static test.commerce.ProductNameGenerator.generateProductName;
 import static test.commerce.RegisterProductCommandGenerator.generateRegisterProductCommand;
 
 @CommerceApiTest
@@ -89,4 +97,94 @@ public class POST_specs {
         // Assert
         assertThat(response.getStatusCode().value()).isEqualTo(403);
     }
+
+    @Test
+    void name_속성이_지정되지_않으면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        var command = new RegisterProductCommand(
+            null,
+            generateProductDescription(),
+            new BigDecimal("100"),
+            10
+        );
+
+        // Act
+        RequestEntity<?> request = post("/seller/products")
+            .header("Authorization", "Bearer " + token)
+            .body(command);
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            request,
+            ErrorCarrier.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().invariant()).isEqualTo("name");
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = { "-1", "-0.01" })
+    void priceAmount_속성이_올바르지_않으면_400_Bad_Request_상태코드를_반환한다(
+        BigDecimal priceAmount,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        var command = new RegisterProductCommand(
+            generateProductName(),
+            generateProductDescription(),
+            priceAmount,
+            10
+        );
+
+        // Act
+        RequestEntity<?> request = post("/seller/products")
+            .header("Authorization", "Bearer " + token)
+            .body(command);
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            request,
+            ErrorCarrier.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().invariant()).isEqualTo("priceAmount");
+    }
+
+    @Test
+    void stockQuantity_속성이_음수이면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        var command = new RegisterProductCommand(
+            generateProductName(),
+            generateProductDescription(),
+            new BigDecimal("100"),
+            -1
+        );
+
+        // Act
+        RequestEntity<?> request = post("/seller/products")
+            .header("Authorization", "Bearer " + token)
+            .body(command);
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            request,
+            ErrorCarrier.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().invariant()).isEqualTo("stockQuantity");
+    }
 }
@@ -0,0 +1,177 @@
+package test.commerce.api.seller.products.batch;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import commerce.command.RegisterProductCommand;
+import commerce.result.ArrayCarrier;
+import commerce.result.PageCarrier;
+import commerce.view.SellerProductView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.get;
+import static org.springframework.http.RequestEntity.post;
+import static test.commerce.RegisterProductCommandGenerator.generateRegisterProductCommand;
+
+@CommerceApiTest
+@DisplayName("POST /seller/products/batch")
+public class POST_specs {
+
+    @Test
+    void 올바르게_요청하면_200_OK_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        RequestEntity<?> request = post("/seller/products/batch")
+            .header("Authorization", "Bearer " + token)
+            .body(generateRegisterProductCommands(3));
+        ResponseEntity<?> response = client.exchange(request, Void.class);
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void 등록된_상품_식별자를_요청_순서대로_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        RegisterProductCommand[] commands = generateRegisterProductCommands(3);
+
+        // Act
+        RequestEntity<?> request = post("/seller/products/batch")
+            .header("Authorization", "Bearer " + token)
+            .body(commands);
+        ResponseEntity<ArrayCarrier<UUID>> response = client.exchange(
+            request,
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        UUID[] ids = requireNonNull(response.getBody()).items();
+        assertThat(ids).hasSize(commands.length);
+        for (int i = 0; i < ids.length; i++) {
+            SellerProductView product = client.exchange(
+                get("/seller/products/" + ids[i])
+                    .header("Authorization", "Bearer " + token)
+                    .build(),
+                SellerProductView.class
+            ).getBody();
+            assertThat(requireNonNull(product).name())
+                .isEqualTo(commands[i].name());
+        }
+    }
+
+    @Test
+    void 빈_배열을_사용하면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        RequestEntity<?> request = post("/seller/products/batch")
+            .header("Authorization", "Bearer " + token)
+            .body(new RegisterProductCommand[0]);
+        ResponseEntity<?> response = client.exchange(request, Void.class);
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 최대_개수를_넘는_상품을_사용하면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+
+        // Act
+        RequestEntity<?> request = post("/seller/products/batch")
+            .header("Authorization", "Bearer " + token)
+            .body(generateRegisterProductCommands(1001));
+        ResponseEntity<?> response = client.exchange(request, Void.class);
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 올바르지_않은_상품이_포함되면_400_Bad_Request_상태코드를_반환하고_아무것도_등록하지_않는다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createSellerThenIssueToken();
+        RegisterProductCommand valid = generateRegisterProductCommand();
+        RegisterProductCommand invalid = new RegisterProductCommand(
+            "name",
+            "description",
+            new BigDecimal("-1"),
+            10
+        );
+
+        // Act
+        RequestEntity<?> request = post("/seller/products/batch")
+            .header("Authorization", "Bearer " + token)
+            .body(new RegisterProductCommand[] { valid, invalid });
+        ResponseEntity<?> response = client.exchange(request, Void.class);
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        ResponseEntity<PageCarrier<SellerProductView>> products =
+            client.exchange(
+                get("/seller/products")
+                    .header("Authorization", "Bearer " + token)
+                    .build(),
+                new ParameterizedTypeReference<>() { }
+            );
+        assertThat(requireNonNull(products.getBody()).items()).isEmpty();
+    }
+
+    @Test
+    void 구매자_접근토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+
+        // Act
+        RequestEntity<?> request = post("/seller/products/batch")
+            .header("Authorization", "Bearer " + token)
+            .body(generateRegisterProductCommands(3));
+        ResponseEntity<?> response = client.exchange(request, Void.class);
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    private static RegisterProductCommand[] generateRegisterProductCommands(
+        int count
+    ) {
+        return Stream
+            .generate(() -> generateRegisterProductCommand())
+            .limit(count)
+            .toArray(RegisterProductCommand[]::new);
+    }
+}
@@ -2,10 +2,13 @@ package test.commerce.api.seller.signup;
 
 import commerce.Seller;
 import commerce.SellerRepository;
+import commerce.api.PasswordHashingExecutor;
 import commerce.command.CreateSellerCommand;
+import commerce.result.ErrorCarrier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -17,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static test.commerce.EmailGenerator.generateEmail;
 import static test.commerce.PasswordGenerator.generatePassword;
 import static test.commerce.UsernameGenerator.generateUsername;
+import static test.commerce.api.ApiFixture.saturate;
 
 @CommerceApiTest
 @DisplayName("POST /seller/signUp")
@@ -245,6 +249,88 @@ public class POST_specs {
         assertThat(response.getStatusCode().value()).isEqualTo(400);
     }
 
+    @Test
+    void email_속성에_이미_존재하는_이메일_주소가_지정되면_위반된_불변식을_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        var email = generateEmail();
+
+        client.postForEntity(
+            "/seller/signUp",
+            new CreateSellerCommand(email, generateUsername(), "password"),
+            Void.class
+        );
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.postForEntity(
+            "/seller/signUp",
+            new CreateSellerCommand(email, generateUsername(), "password"),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.invariant()).isEqualTo("uniqueEmail");
+    }
+
+    @Test
+    void username_속성에_이미_존재하는_사용자이름이_지정되면_위반된_불변식을_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        var username = generateUsername();
+
+        client.postForEntity(
+            "/seller/signUp",
+            new CreateSellerCommand(generateEmail(), username, "password"),
+            Void.class
+        );
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.postForEntity(
+            "/seller/signUp",
+            new CreateSellerCommand(generateEmail(), username, "password"),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.invariant()).isEqualTo("uniqueUsername");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "invalid-email, seller, password, email",
+        "seller@test.com, se, password, username",
+        "seller@test.com, seller, pass, password"
+    })
+    void 올바르지_않은_속성이_지정되면_위반된_불변식을_반환한다(
+        String email,
+        String username,
+        String password,
+        String invariant,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        var command = new CreateSellerCommand(email, username, password);
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.postForEntity(
+            "/seller/signUp",
+            command,
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.error()).isEqualTo("InvariantViolation");
+        assertThat(actual.invariant()).isEqualTo(invariant);
+    }
+
     @Test
     void 비밀번호를_올바르게_암호화한다(
         @Autowired TestRestTemplate client,
@@ -271,4 +357,92 @@ public class POST_specs {
             .orElseThrow();
         assertThat(encoder.matches(command.password(), actual)).isTrue();
     }
+
+    @Test
+    void 암호_해싱_대기열이_가득_차면_503_Service_Unavailable_상태코드와_Retry_After_헤더를_반환한다(
+        @Autowired TestRestTemplate client,
+        @Autowired PasswordHashingExecutor hashingExecutor
+    ) {
+        // Arrange
+        var command = new CreateSellerCommand(
+            generateEmail(),
+            generateUsername(),
+            "password"
+        );
+        Runnable release = saturate(hashingExecutor);
+
+        // Act
+        ResponseEntity<Void> response;
+        try {
+            response = client.postForEntity("/seller/signUp", command, Void.class);
+        } finally {
+            release.run();
+        }
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    void 암호_해싱_대기열이_가득_차도_올바르지_않은_요청은_400_Bad_Request_상태코드를_반환한다(
+        @Autowired TestRestTemplate client,
+        @Autowired PasswordHashingExecutor hashingExecutor
+    ) {
+        // Arrange
+        var command = new CreateSellerCommand(
+            "invalid-email",
+            generateUsername(),
+            "password"
+        );
+        Runnable release = saturate(hashingExecutor);
+
+        // Act
+        ResponseEntity<ErrorCarrier> response;
+        try {
+            response = client.postForEntity(
+                "/seller/signUp",
+                command,
+                ErrorCarrier.class
+            );
+        } finally {
+            release.run();
+        }
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 암호_해싱_대기열이_가득_차도_이미_존재하는_이메일_주소가_지정되면_위반된_불변식을_반환한다(
+        @Autowired TestRestTemplate client,
+        @Autowired PasswordHashingExecutor hashingExecutor
+    ) {
+        // Arrange
+        var email = generateEmail();
+        client.postForEntity(
+            "/seller/signUp",
+            new CreateSellerCommand(email, generateUsername(), generatePassword()),
+            Void.class
+        );
+        Runnable release = saturate(hashingExecutor);
+
+        // Act
+        ResponseEntity<ErrorCarrier> response;
+        try {
+            response = client.postForEntity(
+                "/seller/signUp",
+                new CreateSellerCommand(email, generateUsername(), generatePassword()),
+                ErrorCarrier.class
+            );
+        } finally {
+            release.run();
+        }
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.invariant()).isEqualTo("uniqueEmail");
+    }
 }
@@ -1,5 +1,6 @@
 package test.commerce.api.shopper.issuetoken;
 
+import commerce.api.PasswordHashingExecutor;
 import commerce.command.CreateShopperCommand;
 import commerce.query.IssueShopperToken;
 import commerce.result.AccessTokenCarrier;
@@ -14,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static test.commerce.EmailGenerator.generateEmail;
 import static test.commerce.PasswordGenerator.generatePassword;
 import static test.commerce.UsernameGenerator.generateUsername;
+import static test.commerce.api.ApiFixture.saturate;
 
 @CommerceApiTest
 @DisplayName("POST /shopper/issueToken")
@@ -110,4 +112,25 @@ public class POST_specs {
         // Assert
         assertThat(response.getStatusCode().value()).isEqualTo(400);
     }
+
+    @Test
+    void 암호_해싱_대기열이_가득_차도_존재하지_않는_이메일이_사용되면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired TestRestTemplate client,
+        @Autowired PasswordHashingExecutor hashingExecutor
+    ) {
+        // Arrange
+        var query = new IssueShopperToken(generateEmail(), generatePassword());
+        Runnable release = saturate(hashingExecutor);
+
+        // Act
+        ResponseEntity<Void> response;
+        try {
+            response = client.postForEntity("/shopper/issueToken", query, Void.class);
+        } finally {
+            release.run();
+        }
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
 }
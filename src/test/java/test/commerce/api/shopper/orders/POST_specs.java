@@ -0,0 +1,274 @@
+package test.commerce.api.shopper.orders;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import commerce.command.PlaceOrderCommand;
+import commerce.command.RegisterProductCommand;
+import commerce.result.ErrorCarrier;
+import commerce.view.SellerProductView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.get;
+import static org.springframework.http.RequestEntity.post;
+
+@CommerceApiTest
+@DisplayName("POST /shopper/orders")
+public class POST_specs {
+
+    @Test
+    void 올바르게_요청하면_201_Created_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            placeOrder(shopperToken, productId, 1),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(201);
+    }
+
+    @Test
+    void 올바르게_요청하면_주문_정보에_접근하는_Location_헤더를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            placeOrder(shopperToken, productId, 1),
+            Void.class
+        );
+
+        // Assert
+        URI location = response.getHeaders().getLocation();
+        assertThat(location).isNotNull();
+        assertThat(location.getPath()).startsWith("/shopper/orders/");
+    }
+
+    @Test
+    void 주문한_수량만큼_재고를_줄인다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        client.exchange(placeOrder(shopperToken, productId, 4), Void.class);
+
+        // Assert
+        assertThat(getStockQuantity(client, sellerToken, productId))
+            .isEqualTo(6);
+    }
+
+    @Test
+    void 남은_재고를_모두_주문할_수_있다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            placeOrder(shopperToken, productId, 10),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(201);
+        assertThat(getStockQuantity(client, sellerToken, productId)).isZero();
+    }
+
+    @Test
+    void 재고보다_많은_수량을_주문하면_400_Bad_Request_상태코드를_반환하고_재고를_유지한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            placeOrder(shopperToken, productId, 11),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(requireNonNull(response.getBody()).invariant())
+            .isEqualTo("stockQuantity");
+        assertThat(getStockQuantity(client, sellerToken, productId))
+            .isEqualTo(10);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1 })
+    void 수량이_양수가_아니면_400_Bad_Request_상태코드를_반환한다(
+        int quantity,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            placeOrder(shopperToken, productId, quantity),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(requireNonNull(response.getBody()).invariant())
+            .isEqualTo("quantity");
+    }
+
+    @Test
+    void 존재하지_않는_상품을_주문하면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            placeOrder(shopperToken, UUID.randomUUID(), 1),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(requireNonNull(response.getBody()).invariant())
+            .isEqualTo("productId");
+    }
+
+    @Test
+    void 동시에_주문해도_재고보다_많이_주문하지_않고_각_주문에_고유한_결과를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) throws Exception {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        List<Future<ResponseEntity<Void>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 40; i++) {
+                futures.add(executor.submit(() -> client.exchange(
+                    placeOrder(shopperToken, productId, 1),
+                    Void.class
+                )));
+            }
+        }
+
+        // Assert
+        Set<URI> locations = new HashSet<>();
+        for (Future<ResponseEntity<Void>> future : futures) {
+            ResponseEntity<Void> response = future.get();
+            int status = response.getStatusCode().value();
+            assertThat(status).isIn(201, 400);
+            if (status == 201) {
+                locations.add(response.getHeaders().getLocation());
+            }
+        }
+
+        assertThat(locations).hasSize(10);
+        assertThat(getStockQuantity(client, sellerToken, productId)).isZero();
+    }
+
+    @Test
+    void 판매자_접근토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command(10));
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            placeOrder(sellerToken, productId, 1),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    private static RequestEntity<PlaceOrderCommand> placeOrder(
+        String token,
+        UUID productId,
+        int quantity
+    ) {
+        return post("/shopper/orders")
+            .header("Authorization", "Bearer " + token)
+            .body(new PlaceOrderCommand(productId, quantity));
+    }
+
+    private static int getStockQuantity(
+        TestRestTemplate client,
+        String sellerToken,
+        UUID id
+    ) {
+        ResponseEntity<SellerProductView> response = client.exchange(
+            get("/seller/products/" + id)
+                .header("Authorization", "Bearer " + sellerToken)
+                .build(),
+            SellerProductView.class
+        );
+        return requireNonNull(response.getBody()).stockQuantity();
+    }
+
+    private static RegisterProductCommand command(int stockQuantity) {
+        return new RegisterProductCommand(
+            "name",
+            "description",
+            new BigDecimal("1000"),
+            stockQuantity
+        );
+    }
+}
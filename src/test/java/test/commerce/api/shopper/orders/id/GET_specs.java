@@ -0,0 +1,131 @@
+package test.commerce.api.shopper.orders.id;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import commerce.command.PlaceOrderCommand;
+import commerce.command.RegisterProductCommand;
+import commerce.view.OrderView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.http.RequestEntity.get;
+import static org.springframework.http.RequestEntity.post;
+
+@CommerceApiTest
+@DisplayName("GET /shopper/orders/{id}")
+public class GET_specs {
+
+    @Test
+    void 올바르게_요청하면_200_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command());
+        String shopperToken = fixture.createShopperThenIssueToken();
+        URI location = placeOrder(client, shopperToken, productId, 2);
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get(location.getPath())
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void 올바르게_요청하면_주문_정보를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command());
+        String shopperToken = fixture.createShopperThenIssueToken();
+        URI location = placeOrder(client, shopperToken, productId, 2);
+
+        // Act
+        ResponseEntity<OrderView> response = client.exchange(
+            get(location.getPath())
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            OrderView.class
+        );
+
+        // Assert
+        OrderView actual = requireNonNull(response.getBody());
+        assertThat(location.getPath()).endsWith("/" + actual.id());
+        assertThat(actual.productId()).isEqualTo(productId);
+        assertThat(actual.quantity()).isEqualTo(2);
+        assertThat(actual.placedTimeUtc()).isCloseTo(
+            LocalDateTime.now(ZoneOffset.UTC),
+            within(5, SECONDS)
+        );
+    }
+
+    @Test
+    void 다른_구매자의_주문이면_404_Not_Found_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID productId = fixture.registerProduct(sellerToken, command());
+        String shopperToken = fixture.createShopperThenIssueToken();
+        URI location = placeOrder(client, shopperToken, productId, 2);
+        String otherShopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get(location.getPath())
+                .header("Authorization", "Bearer " + otherShopperToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(404);
+    }
+
+    private static URI placeOrder(
+        TestRestTemplate client,
+        String token,
+        UUID productId,
+        int quantity
+    ) {
+        ResponseEntity<Void> response = client.exchange(
+            post("/shopper/orders")
+                .header("Authorization", "Bearer " + token)
+                .body(new PlaceOrderCommand(productId, quantity)),
+            Void.class
+        );
+        return requireNonNull(response.getHeaders().getLocation());
+    }
+
+    private static RegisterProductCommand command() {
+        return new RegisterProductCommand(
+            "name",
+            "description",
+            new BigDecimal("1000"),
+            10
+        );
+    }
+}
@@ -1,15 +1,22 @@
 package test.commerce.api.shopper.products;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import commerce.ProductRepository;
 import commerce.command.RegisterProductCommand;
+import commerce.result.ErrorCarrier;
 import commerce.result.PageCarrier;
 import commerce.view.ProductView;
 import commerce.view.SellerMeView;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
@@ -20,6 +27,9 @@ import test.commerce.api.CommerceApiTest;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.RequestEntity.get;
+import static org.springframework.http.RequestEntity.post;
+import static test.commerce.ProductDescriptionGenerator.generateProductDescription;
+import static test.commerce.ProductNameGenerator.generateProductName;
 import static test.commerce.RegisterProductCommandGenerator.generateRegisterProductCommand;
 
 @CommerceApiTest
@@ -202,6 +212,88 @@ public class GET_specs {
         assertThat(page.continuationToken()).isNull();
     }
 
+    @Test
+    void pageSize_매개변수를_지정하면_해당_개수만큼_상품을_반환한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        List<UUID> ids = fixture.registerProducts(sellerToken, 5);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        String path = "/shopper/products?pageSize=3";
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + shopperToken).build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        PageCarrier<ProductView> page = response.getBody();
+        assertThat(requireNonNull(page).items())
+            .extracting(ProductView::id)
+            .containsExactlyElementsOf(ids.reversed().subList(0, 3));
+        assertThat(page.continuationToken()).isNotNull();
+    }
+
+    @Test
+    void pageSize_매개변수가_최댓값을_넘으면_최댓값만큼_상품을_반환한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProducts(sellerToken, 101);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        String path = "/shopper/products?pageSize=1000";
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + shopperToken).build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        PageCarrier<ProductView> page = response.getBody();
+        assertThat(requireNonNull(page).items()).hasSize(100);
+        assertThat(page.continuationToken()).isNotNull();
+    }
+
+    @Test
+    void 새로_등록된_상품을_첫번째_페이지에_반영한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProducts(sellerToken);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+        fixture.consumeProductPage(shopperToken);
+
+        UUID productId = fixture.registerProduct(sellerToken);
+
+        // Act
+        String path = "/shopper/products";
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + shopperToken).build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual[0].id()).isEqualTo(productId);
+    }
+
     @Test
     void 판매자_접근토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
         @Autowired ApiFixture fixture,
@@ -220,4 +312,545 @@ public class GET_specs {
         // Assert
         assertThat(response.getStatusCode().value()).isEqualTo(403);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "invalid-token",
+        "MTA=",
+        "AQAAAAAAAAAACgAAAAAAAAAAAAAAAAAAAAAA",
+        "AQAAAAAAAAAACgAAAAAAAAAAAAAAAAAAAAA"
+    })
+    void 잘못된_연속토큰을_사용하면_400_Bad_Request_상태코드를_반환한다(
+        String continuationToken,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products?continuationToken=" + continuationToken)
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 잘못된_연속토큰을_사용하면_위반된_불변식을_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.exchange(
+            get("/shopper/products?continuationToken=invalid-token")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.error()).isEqualTo("InvariantViolation");
+        assertThat(actual.invariant()).isEqualTo("continuationToken");
+    }
+
+    @Test
+    void minPrice_매개변수보다_싼_상품을_제외한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProduct(sellerToken, command(100, 10));
+        UUID second = fixture.registerProduct(sellerToken, command(200, 10));
+        UUID third = fixture.registerProduct(sellerToken, command(300, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?minPrice=200")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactly(third, second);
+    }
+
+    @Test
+    void maxPrice_매개변수보다_비싼_상품을_제외한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID first = fixture.registerProduct(sellerToken, command(100, 10));
+        UUID second = fixture.registerProduct(sellerToken, command(200, 10));
+        fixture.registerProduct(sellerToken, command(300, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?maxPrice=200.00")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactly(second, first);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "minPrice=1e1000000",
+        "maxPrice=1e1000000",
+        "minPrice=1e-1000000",
+        "maxPrice=123456789012345678901234567890123456789",
+        "maxPrice=0.123456789012345678901234567890123456789"
+    })
+    void 가격_범위_매개변수를_표현할_수_없으면_400_Bad_Request_상태코드를_반환한다(
+        String parameter,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products?" + parameter)
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 가격_범위_매개변수의_자릿수가_매우_많으면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String shopperToken = fixture.createShopperThenIssueToken();
+        String minPrice = "7".repeat(1000);
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products?sortOrder=PRICE_ASC&minPrice=" + minPrice)
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 소수점_자릿수만_다른_가격_범위는_같은_페이지를_재사용한다(
+        @Autowired MeterRegistry meterRegistry,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProduct(sellerToken, command(100, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+        ResponseEntity<PageCarrier<ProductView>> cached = client.exchange(
+            get("/shopper/products?maxPrice=200")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+        long queries = meterRegistry.get("feed.query").timer().count();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?maxPrice=200.00")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        assertThat(meterRegistry.get("feed.query").timer().count()).isEqualTo(queries);
+        assertThat(requireNonNull(response.getBody()).items())
+            .extracting(ProductView::id)
+            .containsExactlyElementsOf(Arrays
+                .stream(requireNonNull(cached.getBody()).items())
+                .map(ProductView::id)
+                .toList());
+    }
+
+    @Test
+    void inStockOnly_매개변수를_지정하면_재고가_없는_상품을_제외한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProduct(sellerToken, command(100, 0));
+        UUID second = fixture.registerProduct(sellerToken, command(100, 5));
+        fixture.registerProduct(sellerToken, command(100, 0));
+        UUID fourth = fixture.registerProduct(sellerToken, command(100, 7));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?inStockOnly=true")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactly(fourth, second);
+    }
+
+    @Test
+    void 연속토큰에_담긴_필터로_다음_페이지를_반환한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        List<UUID> cheap = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            cheap.add(fixture.registerProduct(sellerToken, command(100, 10)));
+            fixture.registerProduct(sellerToken, command(1000, 10));
+        }
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+        ResponseEntity<PageCarrier<ProductView>> firstPage = client.exchange(
+            get("/shopper/products?maxPrice=500&pageSize=3")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+        String continuationToken = requireNonNull(firstPage.getBody())
+            .continuationToken();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?pageSize=3&continuationToken=" + continuationToken)
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactlyElementsOf(cheap.reversed().subList(3, 6));
+    }
+
+    @Test
+    void 연속토큰과_다른_필터를_지정하면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProduct(sellerToken, command(100, 10));
+        fixture.registerProduct(sellerToken, command(100, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+        ResponseEntity<PageCarrier<ProductView>> firstPage = client.exchange(
+            get("/shopper/products?maxPrice=500&pageSize=1")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+        String continuationToken = requireNonNull(firstPage.getBody())
+            .continuationToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products?maxPrice=600&continuationToken=" + continuationToken)
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void sortOrder_매개변수가_PRICE_ASC이면_가격_오름차순으로_정렬한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID third = fixture.registerProduct(sellerToken, command(300, 10));
+        UUID first = fixture.registerProduct(sellerToken, command(100, 10));
+        UUID second = fixture.registerProduct(sellerToken, command(200, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?sortOrder=PRICE_ASC")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactly(first, second, third);
+    }
+
+    @Test
+    void sortOrder_매개변수가_PRICE_DESC이면_가격_내림차순으로_정렬한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID second = fixture.registerProduct(sellerToken, command(200, 10));
+        UUID third = fixture.registerProduct(sellerToken, command(100, 10));
+        UUID first = fixture.registerProduct(sellerToken, command(300, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?sortOrder=PRICE_DESC")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactly(first, second, third);
+    }
+
+    @Test
+    void sortOrder_매개변수가_REGISTERED_TIME_ASC이면_등록_시점_순으로_정렬한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        List<UUID> ids = fixture.registerProducts(sellerToken);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products?sortOrder=REGISTERED_TIME_ASC")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+
+        // Assert
+        ProductView[] actual = requireNonNull(response.getBody()).items();
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void 연속토큰에_담긴_정렬_순서로_모든_페이지를_반환한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID a = fixture.registerProduct(sellerToken, command(200, 10));
+        UUID b = fixture.registerProduct(sellerToken, command(100, 10));
+        UUID c = fixture.registerProduct(sellerToken, command(200, 10));
+        UUID d = fixture.registerProduct(sellerToken, command(300, 10));
+        UUID e = fixture.registerProduct(sellerToken, command(100, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        List<UUID> actual = new ArrayList<>();
+        String path = "/shopper/products?sortOrder=PRICE_DESC&pageSize=2";
+        while (path != null) {
+            ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+                get(path).header("Authorization", "Bearer " + shopperToken).build(),
+                new ParameterizedTypeReference<>() { }
+            );
+            PageCarrier<ProductView> page = requireNonNull(response.getBody());
+            Arrays.stream(page.items()).map(ProductView::id).forEach(actual::add);
+            path = page.continuationToken() == null
+                ? null
+                : "/shopper/products?pageSize=2&continuationToken="
+                    + page.continuationToken();
+        }
+
+        // Assert
+        assertThat(actual).containsExactly(d, c, a, e, b);
+    }
+
+    @Test
+    void 가격이_없는_상품_등록을_거절하고_가격_순으로_모든_페이지를_반환한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        UUID a = fixture.registerProduct(sellerToken, command(200, 10));
+        ResponseEntity<Void> rejected = client.exchange(
+            post("/seller/products")
+                .header("Authorization", "Bearer " + sellerToken)
+                .body(new RegisterProductCommand(
+                    generateProductName(),
+                    generateProductDescription(),
+                    null,
+                    10
+                )),
+            Void.class
+        );
+        UUID b = fixture.registerProduct(sellerToken, command(100, 10));
+        UUID c = fixture.registerProduct(sellerToken, command(300, 10));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        List<UUID> actual = new ArrayList<>();
+        String path = "/shopper/products?sortOrder=PRICE_ASC&pageSize=1";
+        while (path != null) {
+            ResponseEntity<PageCarrier<ProductView>> response = client.exchange(
+                get(path).header("Authorization", "Bearer " + shopperToken).build(),
+                new ParameterizedTypeReference<>() { }
+            );
+            assertThat(response.getStatusCode().value()).isEqualTo(200);
+            PageCarrier<ProductView> page = requireNonNull(response.getBody());
+            Arrays.stream(page.items()).map(ProductView::id).forEach(actual::add);
+            path = page.continuationToken() == null
+                ? null
+                : "/shopper/products?pageSize=1&continuationToken="
+                    + page.continuationToken();
+        }
+
+        // Assert
+        assertThat(rejected.getStatusCode().value()).isEqualTo(400);
+        assertThat(actual).containsExactly(b, a, c);
+    }
+
+    @Test
+    void 연속토큰과_다른_정렬_순서를_지정하면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProducts(sellerToken);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+        ResponseEntity<PageCarrier<ProductView>> firstPage = client.exchange(
+            get("/shopper/products?sortOrder=PRICE_ASC&pageSize=1")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+        String continuationToken = requireNonNull(firstPage.getBody())
+            .continuationToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products?sortOrder=PRICE_DESC&continuationToken=" + continuationToken)
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void 지원하지_않는_정렬_순서를_지정하면_400_Bad_Request_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products?sortOrder=NAME_ASC")
+                .header("Authorization", "Bearer " + shopperToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    private static RegisterProductCommand command(int priceAmount, int stockQuantity) {
+        return new RegisterProductCommand(
+            generateProductName(),
+            generateProductDescription(),
+            new BigDecimal(priceAmount),
+            stockQuantity
+        );
+    }
 }
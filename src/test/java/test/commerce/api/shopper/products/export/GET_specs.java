@@ -0,0 +1,148 @@
+package test.commerce.api.shopper.products.export;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import commerce.ProductRepository;
+import commerce.command.RegisterProductCommand;
+import commerce.view.ProductView;
+import commerce.view.SellerMeView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.get;
+import static test.commerce.RegisterProductCommandGenerator.generateRegisterProductCommand;
+
+@CommerceApiTest
+@DisplayName("GET /shopper/products/export")
+public class GET_specs {
+
+    @Test
+    void 올바르게_요청하면_200_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+
+        // Act
+        String path = "/shopper/products/export";
+        ResponseEntity<String> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + token).build(),
+            String.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getContentType())
+            .hasToString("application/x-ndjson");
+    }
+
+    @Test
+    void 모든_상품을_등록_시점_역순으로_반환한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client,
+        @Autowired ObjectMapper mapper
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        List<UUID> ids = fixture.registerProducts(sellerToken, 25);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        String path = "/shopper/products/export";
+        ResponseEntity<String> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + shopperToken).build(),
+            String.class
+        );
+
+        // Assert
+        List<ProductView> actual = parseLines(mapper, response.getBody());
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactlyElementsOf(ids.reversed());
+    }
+
+    @Test
+    void 상품_속성을_올바르게_설정한다(
+        @Autowired ProductRepository productRepository,
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client,
+        @Autowired ObjectMapper mapper
+    ) {
+        // Arrange
+        productRepository.deleteAll();
+
+        String sellerToken = fixture.createSellerThenIssueToken();
+        SellerMeView seller = fixture.getSeller(sellerToken);
+        RegisterProductCommand command = generateRegisterProductCommand();
+        UUID productId = fixture.registerProduct(sellerToken, command);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        String path = "/shopper/products/export";
+        ResponseEntity<String> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + shopperToken).build(),
+            String.class
+        );
+
+        // Assert
+        ProductView actual = parseLines(mapper, response.getBody()).getFirst();
+        assertThat(actual.id()).isEqualTo(productId);
+        assertThat(actual.seller().id()).isEqualTo(seller.id());
+        assertThat(actual.seller().username()).isEqualTo(seller.username());
+        assertThat(actual.name()).isEqualTo(command.name());
+        assertThat(actual.description()).isEqualTo(command.description());
+        assertThat(actual.priceAmount().doubleValue())
+            .isEqualTo(command.priceAmount().doubleValue());
+        assertThat(actual.stockQuantity()).isEqualTo(command.stockQuantity());
+    }
+
+    @Test
+    void 판매자_접근토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+
+        // Act
+        String path = "/shopper/products/export";
+        ResponseEntity<Void> response = client.exchange(
+            get(path).header("Authorization", "Bearer " + sellerToken).build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    private static List<ProductView> parseLines(ObjectMapper mapper, String body) {
+        return requireNonNull(body)
+            .lines()
+            .map(line -> parse(mapper, line))
+            .toList();
+    }
+
+    private static ProductView parse(ObjectMapper mapper, String line) {
+        try {
+            return mapper.readValue(line, ProductView.class);
+        } catch (JsonProcessingException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
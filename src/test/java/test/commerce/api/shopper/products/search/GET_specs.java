@@ -0,0 +1,267 @@
+package test.commerce.api.shopper.products.search;
+
+import java.util.UUID;
+
+import commerce.command.RegisterProductCommand;
+import commerce.result.ArrayCarrier;
+import commerce.view.ProductView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import test.commerce.api.ApiFixture;
+import test.commerce.api.CommerceApiTest;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.RequestEntity.get;
+import static test.commerce.ProductPriceAmountGenerator.generateProductPriceAmount;
+import static test.commerce.ProductStockQuantityGenerator.generateProductStockQuantity;
+import static test.commerce.RegisterProductCommandGenerator.generateRegisterProductCommand;
+
+@CommerceApiTest
+@DisplayName("GET /shopper/products/search")
+public class GET_specs {
+
+    @Test
+    void 올바르게_요청하면_200_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String token = fixture.createShopperThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products/search?q=name")
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void 이름에_검색어가_포함된_상품을_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        String keyword = generateKeyword();
+        UUID productId = fixture.registerProduct(
+            sellerToken,
+            new RegisterProductCommand(
+                "Product " + keyword,
+                "description",
+                generateProductPriceAmount(),
+                generateProductStockQuantity()
+            )
+        );
+        fixture.registerProducts(sellerToken);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ProductView[] actual = search(client, shopperToken, keyword);
+
+        // Assert
+        assertThat(actual).extracting(ProductView::id).containsExactly(productId);
+    }
+
+    @Test
+    void 설명에_검색어가_포함된_상품을_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        String keyword = generateKeyword();
+        UUID productId = fixture.registerProduct(
+            sellerToken,
+            new RegisterProductCommand(
+                "name",
+                "Made of " + keyword + ", hand-washed.",
+                generateProductPriceAmount(),
+                generateProductStockQuantity()
+            )
+        );
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ProductView[] actual = search(client, shopperToken, keyword.toUpperCase());
+
+        // Assert
+        assertThat(actual).extracting(ProductView::id).containsExactly(productId);
+    }
+
+    @Test
+    void 모든_검색어를_포함한_상품만_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        String first = generateKeyword();
+        String second = generateKeyword();
+        fixture.registerProduct(sellerToken, commandNamed(first));
+        fixture.registerProduct(sellerToken, commandNamed(second));
+        UUID productId = fixture.registerProduct(
+            sellerToken,
+            commandNamed(first + " " + second)
+        );
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ProductView[] actual = search(client, shopperToken, first + " " + second);
+
+        // Assert
+        assertThat(actual).extracting(ProductView::id).containsExactly(productId);
+    }
+
+    @Test
+    void 검색어와_일치하는_상품이_없으면_빈_배열을_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        fixture.registerProducts(sellerToken);
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ProductView[] actual = search(client, shopperToken, generateKeyword());
+
+        // Assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void 점수가_같으면_최근에_등록된_상품을_먼저_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        String keyword = generateKeyword();
+        UUID first = fixture.registerProduct(sellerToken, commandNamed(keyword));
+        UUID second = fixture.registerProduct(sellerToken, commandNamed(keyword));
+        UUID third = fixture.registerProduct(sellerToken, commandNamed(keyword));
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ProductView[] actual = search(client, shopperToken, keyword);
+
+        // Assert
+        assertThat(actual)
+            .extracting(ProductView::id)
+            .containsExactly(third, second, first);
+    }
+
+    @Test
+    void limit_매개변수만큼_상품을_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        String keyword = generateKeyword();
+        for (int i = 0; i < 5; i++) {
+            fixture.registerProduct(sellerToken, commandNamed(keyword));
+        }
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ProductView[] actual = search(client, shopperToken, keyword + "&limit=3");
+
+        // Assert
+        assertThat(actual).hasSize(3);
+    }
+
+    @Test
+    void 일괄_등록한_상품을_검색한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+        String keyword = generateKeyword();
+        RegisterProductCommand[] commands = {
+            commandNamed(keyword),
+            generateRegisterProductCommand()
+        };
+        ResponseEntity<ArrayCarrier<UUID>> registered = client.exchange(
+            RequestEntity
+                .post("/seller/products/batch")
+                .header("Authorization", "Bearer " + sellerToken)
+                .body(commands),
+            new ParameterizedTypeReference<>() { }
+        );
+        UUID productId = requireNonNull(registered.getBody()).items()[0];
+
+        String shopperToken = fixture.createShopperThenIssueToken();
+
+        // Act
+        ProductView[] actual = search(client, shopperToken, keyword);
+
+        // Assert
+        assertThat(actual).extracting(ProductView::id).containsExactly(productId);
+    }
+
+    @Test
+    void 판매자_접근토큰을_사용하면_403_Forbidden_상태코드를_반환한다(
+        @Autowired ApiFixture fixture,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        String sellerToken = fixture.createSellerThenIssueToken();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange(
+            get("/shopper/products/search?q=name")
+                .header("Authorization", "Bearer " + sellerToken)
+                .build(),
+            Void.class
+        );
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    private static ProductView[] search(
+        TestRestTemplate client,
+        String token,
+        String q
+    ) {
+        ResponseEntity<ArrayCarrier<ProductView>> response = client.exchange(
+            get("/shopper/products/search?q=" + q)
+                .header("Authorization", "Bearer " + token)
+                .build(),
+            new ParameterizedTypeReference<>() { }
+        );
+        return requireNonNull(response.getBody()).items();
+    }
+
+    private static RegisterProductCommand commandNamed(String name) {
+        return new RegisterProductCommand(
+            name,
+            "description",
+            generateProductPriceAmount(),
+            generateProductStockQuantity()
+        );
+    }
+
+    private static String generateKeyword() {
+        return "k" + UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -2,10 +2,13 @@ package test.commerce.api.shopper.signup;
 
 import commerce.Shopper;
 import commerce.ShopperRepository;
+import commerce.api.PasswordHashingExecutor;
 import commerce.command.CreateShopperCommand;
+import commerce.result.ErrorCarrier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
@@ -17,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static test.commerce.EmailGenerator.generateEmail;
 import static test.commerce.PasswordGenerator.generatePassword;
 import static test.commerce.UsernameGenerator.generateUsername;
+import static test.commerce.api.ApiFixture.saturate;
 
 @CommerceApiTest
 @DisplayName("POST /shopper/signUp")
@@ -243,6 +247,88 @@ public class POST_specs {
         assertThat(response.getStatusCode().value()).isEqualTo(400);
     }
 
+    @Test
+    void email_속성에_이미_존재하는_이메일_주소가_지정되면_위반된_불변식을_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        var email = generateEmail();
+
+        client.postForEntity(
+            "/shopper/signUp",
+            new CreateShopperCommand(email, generateUsername(), "password"),
+            Void.class
+        );
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.postForEntity(
+            "/shopper/signUp",
+            new CreateShopperCommand(email, generateUsername(), "password"),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.invariant()).isEqualTo("uniqueEmail");
+    }
+
+    @Test
+    void username_속성에_이미_존재하는_사용자이름이_지정되면_위반된_불변식을_반환한다(
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        var username = generateUsername();
+
+        client.postForEntity(
+            "/shopper/signUp",
+            new CreateShopperCommand(generateEmail(), username, "password"),
+            Void.class
+        );
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.postForEntity(
+            "/shopper/signUp",
+            new CreateShopperCommand(generateEmail(), username, "password"),
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.invariant()).isEqualTo("uniqueUsername");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "invalid-email, shopper, password, email",
+        "shopper@test.com, se, password, username",
+        "shopper@test.com, shopper, pass, password"
+    })
+    void 올바르지_않은_속성이_지정되면_위반된_불변식을_반환한다(
+        String email,
+        String username,
+        String password,
+        String invariant,
+        @Autowired TestRestTemplate client
+    ) {
+        // Arrange
+        var command = new CreateShopperCommand(email, username, password);
+
+        // Act
+        ResponseEntity<ErrorCarrier> response = client.postForEntity(
+            "/shopper/signUp",
+            command,
+            ErrorCarrier.class
+        );
+
+        // Assert
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.error()).isEqualTo("InvariantViolation");
+        assertThat(actual.invariant()).isEqualTo(invariant);
+    }
+
     @Test
     void 비밀번호를_올바르게_암호화한다(
         @Autowired TestRestTemplate client,
@@ -269,4 +355,37 @@ public class POST_specs {
             .orElseThrow();
         assertThat(encoder.matches(command.password(), actual)).isTrue();
     }
+
+    @Test
+    void 암호_해싱_대기열이_가득_차도_이미_존재하는_이메일_주소가_지정되면_위반된_불변식을_반환한다(
+        @Autowired TestRestTemplate client,
+        @Autowired PasswordHashingExecutor hashingExecutor
+    ) {
+        // Arrange
+        var email = generateEmail();
+        client.postForEntity(
+            "/shopper/signUp",
+            new CreateShopperCommand(email, generateUsername(), generatePassword()),
+            Void.class
+        );
+        Runnable release = saturate(hashingExecutor);
+
+        // Act
+        ResponseEntity<ErrorCarrier> response;
+        try {
+            response = client.postForEntity(
+                "/shopper/signUp",
+                new CreateShopperCommand(email, generateUsername(), generatePassword()),
+                ErrorCarrier.class
+            );
+        } finally {
+            release.run();
+        }
+
+        // Assert
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        ErrorCarrier actual = response.getBody();
+        assertThat(actual).isNotNull();
+        assertThat(actual.invariant()).isEqualTo("uniqueEmail");
+    }
 }
@@ -0,0 +1,172 @@
+package test.commerce.commandmodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import commerce.Order;
+import commerce.commandmodel.InvariantViolationException;
+import commerce.commandmodel.OrderGroupCommitter;
+import commerce.commandmodel.ReserveStockCommandExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderGroupCommitter")
+public class OrderGroupCommitter_specs {
+
+    private static final ReserveStockCommandExecutor UNLIMITED_STOCK =
+        new ReserveStockCommandExecutor((id, quantity) -> 1, id -> true);
+
+    private static final ReserveStockCommandExecutor NO_STOCK =
+        new ReserveStockCommandExecutor((id, quantity) -> 0, id -> true);
+
+    @Test
+    void 커밋한_묶음마다_한_번씩_작업자_스레드_밖에서_알린다() throws Exception {
+        // Arrange
+        var firstBatchStarted = new CountDownLatch(1);
+        var releaseFirstBatch = new CountDownLatch(1);
+        Consumer<Runnable> transaction = task -> {
+            firstBatchStarted.countDown();
+            await(releaseFirstBatch);
+            task.run();
+        };
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        var sut = new OrderGroupCommitter(
+            100,
+            100,
+            transaction,
+            UNLIMITED_STOCK,
+            orders -> { },
+            orders -> {
+                batchSizes.add(orders.size());
+                threads.add(Thread.currentThread().getName());
+            }
+        );
+
+        List<CompletableFuture<UUID>> results = new ArrayList<>();
+        results.add(sut.submit(order()));
+        firstBatchStarted.await();
+        for (int i = 0; i < 5; i++) {
+            results.add(sut.submit(order()));
+        }
+
+        // Act
+        releaseFirstBatch.countDown();
+        CompletableFuture
+            .allOf(results.toArray(CompletableFuture[]::new))
+            .get(10, TimeUnit.SECONDS);
+        sut.shutdown();
+
+        // Assert
+        assertThat(batchSizes).containsExactlyInAnyOrder(1, 5);
+        assertThat(threads).doesNotContain("order-group-commit");
+    }
+
+    @Test
+    void 주문이_모두_거절된_묶음은_알리지_않는다() throws Exception {
+        // Arrange
+        List<List<Order>> notifications = new CopyOnWriteArrayList<>();
+        var sut = new OrderGroupCommitter(
+            100,
+            100,
+            Runnable::run,
+            NO_STOCK,
+            orders -> { },
+            notifications::add
+        );
+
+        // Act
+        CompletableFuture<UUID> result = sut.submit(order());
+
+        // Assert
+        assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(InvariantViolationException.class);
+        sut.shutdown();
+        assertThat(notifications).isEmpty();
+    }
+
+    @Test
+    void 종료한_후에는_주문을_거절한다() throws Exception {
+        // Arrange
+        var sut = new OrderGroupCommitter(
+            100,
+            100,
+            Runnable::run,
+            UNLIMITED_STOCK,
+            orders -> { },
+            orders -> { }
+        );
+        sut.shutdown();
+
+        // Act & Assert
+        assertThatThrownBy(() -> sut.submit(order()))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void 종료와_동시에_제출한_주문도_완료하거나_거절한다() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            // Arrange
+            var sut = new OrderGroupCommitter(
+                100,
+                1000,
+                Runnable::run,
+                UNLIMITED_STOCK,
+                orders -> { },
+                orders -> { }
+            );
+            List<CompletableFuture<UUID>> accepted = new CopyOnWriteArrayList<>();
+            var submitting = new CountDownLatch(1);
+            var stopped = new AtomicBoolean();
+            Thread submitter = Thread.ofPlatform().start(() -> {
+                submitting.countDown();
+                while (stopped.get() == false) {
+                    try {
+                        accepted.add(sut.submit(order()));
+                    } catch (RejectedExecutionException exception) {
+                        // The queue is full or the committer has shut down.
+                    }
+                }
+            });
+            submitting.await();
+
+            // Act
+            sut.shutdown();
+            stopped.set(true);
+            submitter.join();
+
+            // Assert
+            CompletableFuture<?> all = CompletableFuture
+                .allOf(accepted.toArray(CompletableFuture[]::new))
+                .handle((ignored, failure) -> null);
+            assertThat(all).succeedsWithin(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Order order() {
+        var order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setProductId(UUID.randomUUID());
+        order.setQuantity(1);
+        return order;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
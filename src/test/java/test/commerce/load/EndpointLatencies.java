@@ -0,0 +1,62 @@
+package test.commerce.load;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+public class EndpointLatencies {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    public void recordSuccess(String endpoint, long latencyNanos) {
+        recorders
+            .computeIfAbsent(endpoint, key -> new Recorder(HIGHEST_TRACKABLE_NANOS, 3))
+            .recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+    }
+
+    public void recordFailure(String endpoint) {
+        failures.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        failures.values().forEach(LongAdder::reset);
+    }
+
+    public void report(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf(
+            "%-28s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "ops/s", "errors",
+            "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"
+        );
+        recorders.keySet().stream().sorted().forEach(endpoint -> {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long errors = failures.getOrDefault(endpoint, new LongAdder()).sum();
+            out.printf(
+                "%-28s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                errors,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+            );
+        });
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,57 @@
+package test.commerce.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadProfile(
+    String target,
+    String profiles,
+    int ratePerSecond,
+    Duration duration,
+    Duration warmUp,
+    int sellers,
+    int shoppers,
+    int seedProducts,
+    int signUpWeight,
+    int issueTokenWeight,
+    int registerProductWeight,
+    int scrollFeedWeight,
+    int scrollDepth
+) {
+
+    public static LoadProfile parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        return new LoadProfile(
+            options.get("target"),
+            options.getOrDefault("profiles", ""),
+            intOption(options, "rate", 200),
+            Duration.ofSeconds(intOption(options, "duration", 60)),
+            Duration.ofSeconds(intOption(options, "warm-up", 10)),
+            intOption(options, "sellers", 20),
+            intOption(options, "shoppers", 100),
+            intOption(options, "seed-products", 1000),
+            intOption(options, "sign-up-weight", 5),
+            intOption(options, "issue-token-weight", 15),
+            intOption(options, "register-product-weight", 10),
+            intOption(options, "scroll-feed-weight", 70),
+            intOption(options, "scroll-depth", 3)
+        );
+    }
+
+    public int totalWeight() {
+        return signUpWeight + issueTokenWeight + registerProductWeight + scrollFeedWeight;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,230 @@
+package test.commerce.load;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import commerce.api.CommerceApiApp;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import test.commerce.api.ApiFixture;
+
+import static test.commerce.EmailGenerator.generateEmail;
+import static test.commerce.PasswordGenerator.generatePassword;
+import static test.commerce.UsernameGenerator.generateUsername;
+
+public class LoadTestRunner {
+
+    private record Credentials(String email, String password, String token) {
+    }
+
+    private final LoadProfile profile;
+    private final ApiFixture fixture;
+    private final EndpointLatencies latencies = new EndpointLatencies();
+    private final List<Credentials> sellers = new ArrayList<>();
+    private final List<Credentials> shoppers = new ArrayList<>();
+
+    LoadTestRunner(LoadProfile profile, String rootUri) {
+        this.profile = profile;
+        this.fixture = new ApiFixture(new TestRestTemplate(
+            new RestTemplateBuilder()
+                .rootUri(rootUri)
+                .additionalInterceptors(LoadTestRunner::requireSuccess)
+        ));
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadProfile profile = LoadProfile.parse(args);
+        ConfigurableApplicationContext context = null;
+        String rootUri = profile.target();
+        if (rootUri == null) {
+            context = startApp(profile.profiles());
+            String port = context.getEnvironment().getProperty("local.server.port");
+            rootUri = "http://localhost:" + port;
+        }
+
+        try {
+            new LoadTestRunner(profile, rootUri).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApp(String profiles) {
+        return SpringApplication.run(
+            CommerceApiApp.class,
+            "--server.port=0",
+            "--spring.profiles.active=" + profiles
+        );
+    }
+
+    void run() throws InterruptedException {
+        seed();
+
+        System.out.printf(
+            "Warming up for %ds at %d ops/s%n",
+            profile.warmUp().toSeconds(),
+            profile.ratePerSecond()
+        );
+        drive(profile.warmUp().toNanos());
+        latencies.reset();
+
+        System.out.printf(
+            "Measuring for %ds at %d ops/s%n",
+            profile.duration().toSeconds(),
+            profile.ratePerSecond()
+        );
+        long elapsed = drive(profile.duration().toNanos());
+        latencies.report(System.out, elapsed);
+    }
+
+    private void seed() {
+        for (int i = 0; i < profile.sellers(); i++) {
+            sellers.add(signUpSeller());
+        }
+
+        for (int i = 0; i < profile.shoppers(); i++) {
+            shoppers.add(signUpShopper());
+        }
+
+        for (int i = 0; i < profile.seedProducts(); i++) {
+            fixture.registerProduct(sellers.get(i % sellers.size()).token());
+        }
+    }
+
+    private Credentials signUpSeller() {
+        String email = generateEmail();
+        String password = generatePassword();
+        fixture.createSeller(email, generateUsername(), password);
+        return new Credentials(email, password, fixture.issueSellerToken(email, password));
+    }
+
+    private Credentials signUpShopper() {
+        String email = generateEmail();
+        String password = generatePassword();
+        fixture.createShopper(email, generateUsername(), password);
+        return new Credentials(email, password, fixture.issueShopperToken(email, password));
+    }
+
+    private long drive(long durationNanos) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond();
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduled = start; scheduled < end; scheduled += interval) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                long intendedStart = scheduled;
+                executor.execute(() -> dispatch(intendedStart));
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private void dispatch(long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(profile.totalWeight());
+
+        if ((pick -= profile.signUpWeight()) < 0) {
+            if (random.nextBoolean()) {
+                measure("POST /seller/signUp", intendedStart, () -> fixture.createSeller(
+                    generateEmail(),
+                    generateUsername(),
+                    generatePassword()
+                ));
+            } else {
+                measure("POST /shopper/signUp", intendedStart, () -> fixture.createShopper(
+                    generateEmail(),
+                    generateUsername(),
+                    generatePassword()
+                ));
+            }
+        } else if ((pick -= profile.issueTokenWeight()) < 0) {
+            if (random.nextBoolean()) {
+                Credentials seller = pickOne(sellers, random);
+                measure("POST /seller/issueToken", intendedStart, () -> fixture
+                    .issueSellerToken(seller.email(), seller.password()));
+            } else {
+                Credentials shopper = pickOne(shoppers, random);
+                measure("POST /shopper/issueToken", intendedStart, () -> fixture
+                    .issueShopperToken(shopper.email(), shopper.password()));
+            }
+        } else if ((pick -= profile.registerProductWeight()) < 0) {
+            Credentials seller = pickOne(sellers, random);
+            measure("POST /seller/products", intendedStart, () -> fixture
+                .registerProduct(seller.token()));
+        } else {
+            scrollFeed(pickOne(shoppers, random).token(), intendedStart);
+        }
+    }
+
+    private void scrollFeed(String token, long intendedStart) {
+        String[] continuationToken = { null };
+        for (int page = 0; page < profile.scrollDepth(); page++) {
+            long pageStart = page == 0 ? intendedStart : System.nanoTime();
+            boolean succeeded = measure("GET /shopper/products", pageStart, () -> {
+                continuationToken[0] = fixture.consumeProductPage(
+                    token,
+                    continuationToken[0]
+                );
+            });
+            if (succeeded == false || continuationToken[0] == null) {
+                return;
+            }
+        }
+    }
+
+    private boolean measure(String endpoint, long intendedStart, Runnable operation) {
+        try {
+            operation.run();
+            latencies.recordSuccess(endpoint, System.nanoTime() - intendedStart);
+            return true;
+        } catch (RuntimeException exception) {
+            latencies.recordFailure(endpoint);
+            return false;
+        }
+    }
+
+    // TestRestTemplate never throws on error statuses and ApiFixture ignores
+    // most of them, so without this a fast 400 or 503 would be timed as a
+    // success and pull the percentiles down.
+    private static ClientHttpResponse requireSuccess(
+        HttpRequest request,
+        byte[] body,
+        ClientHttpRequestExecution execution
+    ) throws IOException {
+        ClientHttpResponse response = execution.execute(request, body);
+        HttpStatusCode status = response.getStatusCode();
+        if (status.is2xxSuccessful() == false) {
+            response.close();
+            throw new IllegalStateException(
+                request.getMethod() + " " + request.getURI().getPath()
+                    + " returned " + status.value()
+            );
+        }
+
+        return response;
+    }
+
+    private static Credentials pickOne(List<Credentials> pool, ThreadLocalRandom random) {
+        return pool.get(random.nextInt(pool.size()));
+    }
+}
@@ -0,0 +1,200 @@
+package test.commerce.querymodel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import commerce.querymodel.PostingList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostingList")
+public class PostingList_specs {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 127, 128, 129, 256, 257, 1000 })
+    void 블록_경계를_넘어_차례로_추가한_항목을_내림차순으로_순회한다(int size) {
+        // Arrange
+        var random = new Random(size);
+        var expected = new TreeMap<Long, Integer>();
+        var sut = new PostingList();
+        long sequence = 0;
+        for (int i = 0; i < size; i++) {
+            sequence += 1 + random.nextInt(1000);
+            int frequency = 1 + random.nextInt(1000);
+            expected.put(sequence, frequency);
+            sut.add(sequence, frequency);
+        }
+
+        // Act
+        Map<Long, Integer> actual = readAll(sut);
+
+        // Assert
+        assertThat(actual).containsExactlyEntriesOf(expected.descendingMap());
+        assertThat(sut.count()).isEqualTo(size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5 })
+    void 순서가_뒤바뀐_항목을_삽입해도_정렬된_상태를_유지한다(long seed) {
+        // Arrange
+        var random = new Random(seed);
+        TreeMap<Long, Integer> expected = generateEntries(random, 1000);
+        List<Long> sequences = new ArrayList<>(expected.keySet());
+        Collections.shuffle(sequences, random);
+
+        // Act
+        var sut = new PostingList();
+        for (long sequence : sequences) {
+            sut.add(sequence, expected.get(sequence));
+        }
+
+        // Assert
+        assertThat(readAll(sut)).containsExactlyEntriesOf(expected.descendingMap());
+        assertThat(sut.count()).isEqualTo(expected.size());
+        assertThat(sut.maximumFrequency())
+            .isEqualTo(Collections.max(expected.values()));
+    }
+
+    @Test
+    void 블록을_채운_뒤_앞쪽_블록에_삽입하면_이후_블록을_다시_나눈다() {
+        // Arrange
+        var expected = new TreeMap<Long, Integer>();
+        var sut = new PostingList();
+        for (long sequence = 2; sequence <= 600; sequence += 2) {
+            expected.put(sequence, 1);
+            sut.add(sequence, 1);
+        }
+
+        // Act
+        for (long sequence = 1; sequence < 600; sequence += 50) {
+            expected.put(sequence, 2);
+            sut.add(sequence, 2);
+        }
+
+        // Assert
+        assertThat(readAll(sut)).containsExactlyEntriesOf(expected.descendingMap());
+        assertThat(sut.count()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void 이미_있는_항목을_다시_추가하면_무시한다() {
+        // Arrange
+        var sut = new PostingList();
+        sut.add(5, 1);
+        sut.add(10, 2);
+
+        // Act
+        boolean first = sut.add(5, 99);
+        boolean second = sut.add(10, 99);
+
+        // Assert
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(readAll(sut)).containsExactly(Map.entry(10L, 2), Map.entry(5L, 1));
+        assertThat(sut.count()).isEqualTo(2);
+        assertThat(sut.maximumFrequency()).isEqualTo(2);
+    }
+
+    @Test
+    void 비어_있으면_커서가_이동하지_않는다() {
+        // Arrange
+        PostingList.Cursor sut = new PostingList().cursor();
+
+        // Act & Assert
+        assertThat(sut.next()).isFalse();
+        assertThat(sut.advanceTo(100)).isFalse();
+        assertThat(sut.sequence()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5, 6, 7, 8 })
+    void 커서_이동이_전수_비교_결과와_일치한다(long seed) {
+        // Arrange
+        var random = new Random(seed);
+        TreeMap<Long, Integer> entries = generateEntries(random, 200 + random.nextInt(800));
+        List<Long> sequences = new ArrayList<>(entries.keySet());
+        Collections.shuffle(sequences, random);
+        var list = new PostingList();
+        for (long sequence : sequences) {
+            list.add(sequence, entries.get(sequence));
+        }
+
+        List<Long> sorted = new ArrayList<>(entries.keySet());
+        PostingList.Cursor sut = list.cursor();
+        long current = Long.MAX_VALUE;
+
+        for (int step = 0; step < 3000; step++) {
+            if (random.nextInt(50) == 0) {
+                sut = list.cursor();
+                current = Long.MAX_VALUE;
+            }
+
+            // Act
+            boolean moved;
+            Long expected;
+            if (random.nextInt(3) == 0) {
+                moved = sut.next();
+                expected = entries.lowerKey(current);
+            } else {
+                long target = pickTarget(random, sorted, current);
+                moved = sut.advanceTo(target);
+                expected = entries.floorKey(Math.min(target, current));
+            }
+
+            // Assert
+            assertThat(moved).isEqualTo(expected != null);
+            if (expected != null) {
+                current = expected;
+            }
+
+            assertThat(sut.sequence()).isEqualTo(current);
+            if (current != Long.MAX_VALUE) {
+                assertThat(sut.frequency()).isEqualTo(entries.get(current));
+            }
+        }
+    }
+
+    private static long pickTarget(Random random, List<Long> sorted, long current) {
+        // Mix targets inside the current block, a few blocks back, above the
+        // current position and below the first entry.
+        int index = current == Long.MAX_VALUE
+            ? sorted.size()
+            : Collections.binarySearch(sorted, current);
+        return switch (random.nextInt(5)) {
+            case 0 -> sorted.get(Math.max(0, index - 1 - random.nextInt(8))) - random.nextInt(2);
+            case 1, 2 -> sorted.get(Math.max(0, index - 1 - random.nextInt(400))) + random.nextInt(2);
+            case 3 -> sorted.getLast() + 1 + random.nextInt(10);
+            default -> random.nextLong(sorted.getFirst() + 1);
+        };
+    }
+
+    private static TreeMap<Long, Integer> generateEntries(Random random, int size) {
+        var entries = new TreeMap<Long, Integer>();
+        while (entries.size() < size) {
+            entries.put(1 + random.nextLong(1L << 40), 1 + random.nextInt(1000));
+        }
+
+        return entries;
+    }
+
+    private static Map<Long, Integer> readAll(PostingList list) {
+        var entries = new TreeMap<Long, Integer>(Collections.reverseOrder());
+        PostingList.Cursor cursor = list.cursor();
+        long previous = Long.MAX_VALUE;
+        while (cursor.next()) {
+            assertThat(cursor.sequence()).isLessThan(previous);
+            previous = cursor.sequence();
+            entries.put(cursor.sequence(), cursor.frequency());
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,31 @@
+package test.commerce.querymodel;
+
+import commerce.querymodel.ProductSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchIndex")
+public class ProductSearchIndex_specs {
+
+    @Test
+    void 같은_상품을_다시_색인해도_검색_순위가_바뀌지_않는다() {
+        // Arrange
+        var sut = new ProductSearchIndex();
+        sut.add(1, "yellow yellow", "xenon");
+        sut.add(2, "xenon", "yellow");
+        sut.add(3, "yellow", null);
+        long[] expected = sut.search("xenon yellow", 10);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            sut.add(3, "yellow", null);
+        }
+
+        // Assert
+        long[] actual = sut.search("xenon yellow", 10);
+        assertThat(actual).containsExactly(expected);
+        assertThat(actual).containsExactly(2, 1);
+    }
+}